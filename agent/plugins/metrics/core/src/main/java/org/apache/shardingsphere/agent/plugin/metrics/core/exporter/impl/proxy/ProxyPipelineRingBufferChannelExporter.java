@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer.RingBufferPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer.RingBufferPipelineChannelRegistry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Proxy pipeline ring buffer channel exporter.
+ */
+public final class ProxyPipelineRingBufferChannelExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_pipeline_ring_buffer_channel", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Ring buffer channels of pipeline jobs. capacity is number of slots; occupancy is number of unconsumed slots; pushed_records and fetched_records are numbers of records",
+            Arrays.asList("channel", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        Map<String, RingBufferPipelineChannel> channels = RingBufferPipelineChannelRegistry.getInstance().getChannels();
+        if (channels.isEmpty()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<String, RingBufferPipelineChannel> entry : channels.entrySet()) {
+            result.addMetric(Arrays.asList(entry.getKey(), "capacity"), entry.getValue().getCapacity());
+            result.addMetric(Arrays.asList(entry.getKey(), "occupancy"), entry.getValue().getOccupancy());
+            result.addMetric(Arrays.asList(entry.getKey(), "pushed_records"), entry.getValue().getPushedRecordsCount());
+            result.addMetric(Arrays.asList(entry.getKey(), "fetched_records"), entry.getValue().getFetchedRecordsCount());
+        }
+        return Optional.of(result);
+    }
+}
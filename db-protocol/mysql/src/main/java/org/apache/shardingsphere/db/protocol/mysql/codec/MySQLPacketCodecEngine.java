@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -87,6 +88,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        if (message instanceof MySQLPacketBatch) {
+            writePacketBatch(context, (MySQLPacketBatch) message);
+            return;
+        }
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -130,6 +135,17 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
         context.write(result);
     }
     
+    private void writePacketBatch(final ChannelHandlerContext context, final MySQLPacketBatch packetBatch) {
+        ByteBuf byteBuf = packetBatch.getByteBuf();
+        AtomicInteger sequenceId = context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get();
+        int headerIndex = byteBuf.readerIndex();
+        while (headerIndex < byteBuf.writerIndex()) {
+            byteBuf.setByte(headerIndex + PAYLOAD_LENGTH, sequenceId.getAndIncrement());
+            headerIndex += PAYLOAD_LENGTH + SEQUENCE_LENGTH + byteBuf.getUnsignedMediumLE(headerIndex);
+        }
+        context.write(byteBuf.retain());
+    }
+    
     @Override
     public MySQLPacketPayload createPacketPayload(final ByteBuf message, final Charset charset) {
         return new MySQLPacketPayload(message, charset);
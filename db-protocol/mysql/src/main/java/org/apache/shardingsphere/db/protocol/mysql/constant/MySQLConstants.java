@@ -40,5 +40,10 @@ public final class MySQLConstants {
      */
     public static final int PROTOCOL_VERSION = 0x0A;
     
+    /**
+     * Payload length of a single packet must be less than 0xFFFFFF, larger payload is split into multiple packets.
+     */
+    public static final int MAX_PACKET_PAYLOAD_LENGTH = 0xFFFFFF;
+    
     public static final MySQLCharacterSet DEFAULT_CHARSET = MySQLCharacterSet.UTF8MB4_GENERAL_CI;
 }
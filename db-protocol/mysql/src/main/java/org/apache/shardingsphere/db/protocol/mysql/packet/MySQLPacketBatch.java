@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * Batch of encoded packets for MySQL.
+ * 
+ * <p>Each packet in the byte buffer is prefixed with a 4-byte header whose payload length is set and whose sequence ID is assigned by codec while encoding.
+ * Payload length of every packet must not exceed the max packet length, payload of the max packet length is continued by the next packet.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLPacketBatch extends MySQLPacket implements ReferenceCounted {
+    
+    private final ByteBuf byteBuf;
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.getByteBuf().writeBytes(byteBuf, byteBuf.readerIndex(), byteBuf.readableBytes());
+    }
+    
+    @Override
+    public int refCnt() {
+        return byteBuf.refCnt();
+    }
+    
+    @Override
+    public MySQLPacketBatch retain() {
+        byteBuf.retain();
+        return this;
+    }
+    
+    @Override
+    public MySQLPacketBatch retain(final int increment) {
+        byteBuf.retain(increment);
+        return this;
+    }
+    
+    @Override
+    public MySQLPacketBatch touch() {
+        byteBuf.touch();
+        return this;
+    }
+    
+    @Override
+    public MySQLPacketBatch touch(final Object hint) {
+        byteBuf.touch(hint);
+        return this;
+    }
+    
+    @Override
+    public boolean release() {
+        return byteBuf.release();
+    }
+    
+    @Override
+    public boolean release(final int decrement) {
+        return byteBuf.release(decrement);
+    }
+}
@@ -25,6 +25,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -167,6 +168,20 @@ class MySQLPacketCodecEngineTest {
         return result.retain();
     }
     
+    @Test
+    void assertEncodePacketBatch() {
+        ByteBuf batchByteBuf = Unpooled.buffer();
+        batchByteBuf.writeMediumLE(1).writeByte(0).writeByte(1);
+        batchByteBuf.writeMediumLE(2).writeByte(0).writeByte(2).writeByte(3);
+        context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().set(3);
+        new MySQLPacketCodecEngine().encode(context, new MySQLPacketBatch(batchByteBuf), byteBuf);
+        verify(context).write(batchByteBuf);
+        assertThat(batchByteBuf.refCnt(), is(2));
+        assertThat(batchByteBuf.getUnsignedByte(3), is((short) 3));
+        assertThat(batchByteBuf.getUnsignedByte(8), is((short) 4));
+        assertThat(context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().get(), is(5));
+    }
+    
     @Test
     void assertEncodeOccursException() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
@@ -33,12 +33,16 @@ import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES encrypt algorithm.
+ *
+ * <p>Initialized ciphers are cached per thread because cipher is stateful and expensive to create.</p>
  */
 @EqualsAndHashCode
 public final class AESEncryptAlgorithm implements EncryptAlgorithm {
@@ -52,6 +56,12 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private byte[] secretKey;
     
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    @EqualsAndHashCode.Exclude
+    private ThreadLocal<Cipher> decryptCipher;
+    
     private Properties getDefaultProperties() {
         Properties result = new Properties();
         result.setProperty(DIGEST_ALGORITHM_NAME, MessageDigestAlgorithms.SHA_1);
@@ -62,6 +72,8 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     public void init(final Properties props) {
         Properties multiSourceProperties = new MultiSourceProperties(props, metaData.getDefaultProps());
         secretKey = getSecretKey(multiSourceProperties);
+        encryptCipher = new ThreadLocal<>();
+        decryptCipher = new ThreadLocal<>();
     }
     
     private byte[] getSecretKey(final Properties props) {
@@ -77,8 +89,27 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(result);
+        return encrypt(plainValue, getCipher(encryptCipher, Cipher.ENCRYPT_MODE));
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> encryptBatch(final List<Object> plainValues, final AlgorithmSQLContext algorithmSQLContext) {
+        Cipher cipher = getCipher(encryptCipher, Cipher.ENCRYPT_MODE);
+        List<Object> result = new ArrayList<>(plainValues.size());
+        for (Object each : plainValues) {
+            result.add(null == each ? null : encrypt(each, cipher));
+        }
+        return result;
+    }
+    
+    private String encrypt(final Object plainValue, final Cipher cipher) throws GeneralSecurityException {
+        try {
+            return Base64.getEncoder().encodeToString(cipher.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8)));
+        } catch (final GeneralSecurityException ex) {
+            encryptCipher.remove();
+            throw ex;
+        }
     }
     
     @SneakyThrows(GeneralSecurityException.class)
@@ -87,13 +118,36 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
-        return new String(result, StandardCharsets.UTF_8);
+        return decrypt(cipherValue, getCipher(decryptCipher, Cipher.DECRYPT_MODE));
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+    @SneakyThrows(GeneralSecurityException.class)
+    @Override
+    public List<Object> decryptBatch(final List<Object> cipherValues, final AlgorithmSQLContext algorithmSQLContext) {
+        Cipher cipher = getCipher(decryptCipher, Cipher.DECRYPT_MODE);
+        List<Object> result = new ArrayList<>(cipherValues.size());
+        for (Object each : cipherValues) {
+            result.add(null == each ? null : decrypt(each, cipher));
+        }
+        return result;
+    }
+    
+    private String decrypt(final Object cipherValue, final Cipher cipher) throws GeneralSecurityException {
+        try {
+            return new String(cipher.doFinal(Base64.getDecoder().decode(cipherValue.toString().trim())), StandardCharsets.UTF_8);
+        } catch (final GeneralSecurityException ex) {
+            decryptCipher.remove();
+            throw ex;
+        }
+    }
+    
+    private Cipher getCipher(final ThreadLocal<Cipher> cachedCipher, final int decryptMode) throws GeneralSecurityException {
+        Cipher result = cachedCipher.get();
+        if (null == result) {
+            result = Cipher.getInstance(getType());
+            result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+            cachedCipher.set(result);
+        }
         return result;
     }
     
@@ -51,4 +51,9 @@ public final class DecoratedEncryptShowCreateTableMergedResult extends EncryptSh
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
 }
@@ -18,13 +18,12 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
-import org.apache.shardingsphere.infra.exception.core.external.sql.identifier.SQLExceptionIdentifier;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 
@@ -36,6 +35,8 @@ import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ *
+ * <p>Decryptors of all result set columns are resolved once when the first value is read, columns without decryptor are returned as they are.</p>
  */
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
@@ -48,6 +49,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private EncryptColumnDecryptor[] columnDecryptors;
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -55,26 +58,40 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+        EncryptColumnDecryptor columnDecryptor = getColumnDecryptor(columnIndex);
+        return null == columnDecryptor ? mergedResult.getValue(columnIndex, type) : columnDecryptor.decrypt(mergedResult.getValue(columnIndex, Object.class));
+    }
+    
+    private EncryptColumnDecryptor getColumnDecryptor(final int columnIndex) {
+        if (null == columnDecryptors) {
+            columnDecryptors = createColumnDecryptors();
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName =
-                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
+        return columnIndex > 0 && columnIndex < columnDecryptors.length ? columnDecryptors[columnIndex] : null;
+    }
+    
+    private EncryptColumnDecryptor[] createColumnDecryptors() {
+        int columnCount = selectStatementContext.getProjectionsContext().getExpandProjections().size();
+        EncryptColumnDecryptor[] result = new EncryptColumnDecryptor[columnCount + 1];
+        String schemaName = null;
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
+            if (!columnProjection.isPresent()) {
+                continue;
+            }
+            String originalTableName = columnProjection.get().getOriginalTable().getValue();
+            String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
+            Optional<EncryptTable> encryptTable = encryptRule.findEncryptTable(originalTableName);
+            if (!encryptTable.isPresent() || !encryptTable.get().isEncryptColumn(originalColumnName)) {
+                continue;
+            }
+            if (null == schemaName) {
+                schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                        .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+            }
+            result[columnIndex] = new EncryptColumnDecryptor(encryptTable.get().getEncryptColumn(originalColumnName).getCipher().getEncryptor(),
+                    new AlgorithmSQLContext(database.getName(), schemaName, originalTableName, originalColumnName));
         }
+        return result;
     }
     
     @Override
@@ -96,4 +113,9 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
 }
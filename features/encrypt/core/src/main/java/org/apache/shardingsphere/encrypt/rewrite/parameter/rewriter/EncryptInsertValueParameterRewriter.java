@@ -36,6 +36,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatem
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -80,19 +81,52 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
                                      final String schemaName, final String tableName, final String columnName) {
         EncryptColumn encryptColumn = encryptRule.getEncryptTable(tableName).getEncryptColumn(columnName);
         int columnIndex = getColumnIndex(paramBuilder, insertStatementContext, columnName);
+        List<Integer> groupIndexes = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
+        List<Object> originalValues = new ArrayList<>(insertStatementContext.getGroupedParameters().size());
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
-            int paramIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
             if (!each.isEmpty()) {
-                StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(count);
                 ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
                 if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    Object literalValue = insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null);
-                    encryptInsertValue(encryptColumn, paramIndex, literalValue, standardParamBuilder, schemaName, tableName);
+                    groupIndexes.add(count);
+                    originalValues.add(insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null));
                 }
             }
             count++;
         }
+        if (!groupIndexes.isEmpty()) {
+            encryptInsertValues(encryptColumn, insertStatementContext, columnIndex, groupIndexes, originalValues, paramBuilder, schemaName, tableName);
+        }
+    }
+    
+    private void encryptInsertValues(final EncryptColumn encryptColumn, final InsertStatementContext insertStatementContext, final int columnIndex, final List<Integer> groupIndexes,
+                                     final List<Object> originalValues, final GroupedParameterBuilder paramBuilder, final String schemaName, final String tableName) {
+        String columnName = encryptColumn.getName();
+        Iterator<Object> cipherValues = encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValues).iterator();
+        Iterator<Object> assistedQueryValues = encryptColumn.getAssistedQuery().isPresent()
+                ? encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValues).iterator()
+                : Collections.emptyIterator();
+        Iterator<Object> likeQueryValues = encryptColumn.getLikeQuery().isPresent()
+                ? encryptColumn.getLikeQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValues).iterator()
+                : Collections.emptyIterator();
+        for (int each : groupIndexes) {
+            int paramIndex = insertStatementContext.getInsertValueContexts().get(each).getParameterIndex(columnIndex);
+            StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(each);
+            standardParamBuilder.addReplacedParameters(paramIndex, cipherValues.next());
+            Collection<Object> addedParams = new LinkedList<>();
+            if (assistedQueryValues.hasNext()) {
+                addedParams.add(assistedQueryValues.next());
+            }
+            if (likeQueryValues.hasNext()) {
+                addedParams.add(likeQueryValues.next());
+            }
+            if (!addedParams.isEmpty()) {
+                if (!standardParamBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
+                    standardParamBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
+                }
+                standardParamBuilder.getAddedIndexAndParameters().get(paramIndex).addAll(addedParams);
+            }
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -105,23 +139,4 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         }
         return columnNames.indexOf(encryptLogicColumnName);
     }
-    
-    private void encryptInsertValue(final EncryptColumn encryptColumn, final int paramIndex, final Object originalValue,
-                                    final StandardParameterBuilder paramBuilder, final String schemaName, final String tableName) {
-        String columnName = encryptColumn.getName();
-        paramBuilder.addReplacedParameters(paramIndex, encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        Collection<Object> addedParams = new LinkedList<>();
-        if (encryptColumn.getAssistedQuery().isPresent()) {
-            addedParams.add(encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (encryptColumn.getLikeQuery().isPresent()) {
-            addedParams.add(encryptColumn.getLikeQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (!addedParams.isEmpty()) {
-            if (!paramBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
-                paramBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
-            }
-            paramBuilder.getAddedIndexAndParameters().get(paramIndex).addAll(addedParams);
-        }
-    }
 }
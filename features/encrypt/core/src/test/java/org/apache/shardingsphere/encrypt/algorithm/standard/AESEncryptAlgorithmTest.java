@@ -30,6 +30,8 @@ import org.mockito.MockedStatic;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -97,4 +99,22 @@ class AESEncryptAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(AlgorithmSQLContext.class)));
     }
+    
+    @Test
+    void assertEncryptInBatch() {
+        List<Object> actual = encryptAlgorithm.encryptBatch(Arrays.<Object>asList("test", null, "test"), mock(AlgorithmSQLContext.class));
+        assertThat(actual, is(Arrays.<Object>asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    void assertDecryptInBatch() {
+        List<Object> actual = encryptAlgorithm.decryptBatch(Arrays.<Object>asList("dSpPiyENQGDUXMKFMJPGWA==", null, "dSpPiyENQGDUXMKFMJPGWA=="), mock(AlgorithmSQLContext.class));
+        assertThat(actual, is(Arrays.<Object>asList("test", null, "test")));
+    }
+    
+    @Test
+    void assertDecryptAfterInvalidCipherValue() {
+        assertThrows(Exception.class, () -> encryptAlgorithm.decrypt("dGVzdA==", mock(AlgorithmSQLContext.class)));
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(AlgorithmSQLContext.class)), is("test"));
+    }
 }
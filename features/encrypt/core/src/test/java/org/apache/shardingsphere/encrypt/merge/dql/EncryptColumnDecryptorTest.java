@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EncryptColumnDecryptorTest {
+    
+    private final AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col");
+    
+    @Test
+    void assertDecryptNullValue() {
+        assertNull(new EncryptColumnDecryptor(mock(EncryptAlgorithm.class), algorithmSQLContext).decrypt(null));
+    }
+    
+    @Test
+    void assertDecrypt() {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("cipher_value", algorithmSQLContext)).thenReturn("plain_value");
+        assertThat(new EncryptColumnDecryptor(encryptAlgorithm, algorithmSQLContext).decrypt("cipher_value"), is("plain_value"));
+    }
+    
+    @Test
+    void assertDecryptFailed() {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt("cipher_value", algorithmSQLContext)).thenThrow(IllegalArgumentException.class);
+        assertThrows(DecryptFailedException.class, () -> new EncryptColumnDecryptor(encryptAlgorithm, algorithmSQLContext).decrypt("cipher_value"));
+    }
+}
@@ -18,9 +18,15 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -29,13 +35,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +70,83 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithoutColumnProjection() throws SQLException {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.empty());
+        when(selectStatementContext.findColumnProjection(2)).thenReturn(Optional.empty());
+        when(mergedResult.getValue(1, String.class)).thenReturn("expression_value");
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getValue(1, String.class), is("expression_value"));
+    }
+    
+    @Test
+    void assertGetValueWithNonEncryptTable() throws SQLException {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(createColumnProjection("t_order", "order_id")));
+        when(selectStatementContext.findColumnProjection(2)).thenReturn(Optional.empty());
+        when(encryptRule.findEncryptTable("t_order")).thenReturn(Optional.empty());
+        when(mergedResult.getValue(1, Long.class)).thenReturn(1L);
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getValue(1, Long.class), is(1L));
+    }
+    
+    @Test
+    void assertGetValueWithPlainColumn() throws SQLException {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(createColumnProjection("t_user", "user_name")));
+        when(selectStatementContext.findColumnProjection(2)).thenReturn(Optional.empty());
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        when(encryptRule.findEncryptTable("t_user")).thenReturn(Optional.of(encryptTable));
+        when(mergedResult.getValue(1, String.class)).thenReturn("plain_value");
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getValue(1, String.class), is("plain_value"));
+    }
+    
+    @Test
+    void assertGetValueWithEncryptColumn() throws SQLException {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.empty());
+        when(selectStatementContext.findColumnProjection(2)).thenReturn(Optional.of(createColumnProjection("t_user", "pwd")));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        when(database.getName()).thenReturn("foo_db");
+        EncryptAlgorithm encryptor = mock(EncryptAlgorithm.class);
+        when(encryptor.decrypt(argThat(each -> "cipher_value".equals(each)), argThat(this::isUserPasswordContext))).thenReturn("plain_value");
+        EncryptTable encryptTable = mock(EncryptTable.class, RETURNS_DEEP_STUBS);
+        when(encryptTable.isEncryptColumn("pwd")).thenReturn(true);
+        when(encryptTable.getEncryptColumn("pwd").getCipher().getEncryptor()).thenReturn(encryptor);
+        when(encryptRule.findEncryptTable("t_user")).thenReturn(Optional.of(encryptTable));
+        when(mergedResult.getValue(2, Object.class)).thenReturn("cipher_value");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(2, String.class), is("plain_value"));
+        assertThat(actual.getValue(2, String.class), is("plain_value"));
+        verify(selectStatementContext, times(1)).findColumnProjection(2);
+    }
+    
+    @Test
+    void assertGetValueWithDerivedColumn() throws SQLException {
+        SelectStatementContext selectStatementContext = mockSelectStatementContext();
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.empty());
+        when(selectStatementContext.findColumnProjection(2)).thenReturn(Optional.empty());
+        when(mergedResult.getValue(3, Object.class)).thenReturn("derived_value");
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getValue(3, Object.class), is("derived_value"));
+    }
+    
+    private SelectStatementContext mockSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getProjectionsContext().getExpandProjections()).thenReturn(Arrays.asList(mock(Projection.class), mock(Projection.class)));
+        return result;
+    }
+    
+    private ColumnProjection createColumnProjection(final String originalTableName, final String originalColumnName) {
+        ColumnProjection result = new ColumnProjection("u", "user_column", "user_alias", null);
+        result.setOriginalTable(new IdentifierValue(originalTableName));
+        result.setOriginalColumn(new IdentifierValue(originalColumnName));
+        return result;
+    }
+    
+    private boolean isUserPasswordContext(final AlgorithmSQLContext algorithmSQLContext) {
+        return "foo_db".equals(algorithmSQLContext.getDatabaseName()) && "foo_schema".equals(algorithmSQLContext.getSchemaName())
+                && "t_user".equals(algorithmSQLContext.getTableName()) && "pwd".equals(algorithmSQLContext.getColumnName());
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
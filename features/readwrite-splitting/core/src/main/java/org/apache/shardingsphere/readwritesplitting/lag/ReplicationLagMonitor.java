@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Replication lag monitor.
+ * 
+ * <p>
+ * Replication lag of read data sources is probed in background and recorded to data source group rules, so routing never waits for probing.
+ * Read data sources are probed concurrently and each probing round waits for them in a bounded time, a probe which is still running is not submitted again,
+ * so a hanging read data source only leaves its recorded replication lag to expire.
+ * </p>
+ */
+@Slf4j
+public final class ReplicationLagMonitor implements AutoCloseable {
+    
+    static final long PROBE_INTERVAL_MILLIS = 1000L;
+    
+    private static final long PROBE_TIMEOUT_MILLIS = 500L;
+    
+    private final Collection<ReadwriteSplittingDataSourceGroupRule> dataSourceGroupRules;
+    
+    private final Map<String, DataSource> dataSources;
+    
+    private final ScheduledExecutorService executor;
+    
+    private final ExecutorService probeExecutor;
+    
+    private final Map<String, Future<Optional<Long>>> runningProbes = new HashMap<>();
+    
+    public ReplicationLagMonitor(final String databaseName, final Collection<ReadwriteSplittingDataSourceGroupRule> dataSourceGroupRules, final Map<String, DataSource> dataSources) {
+        this.dataSourceGroupRules = dataSourceGroupRules;
+        this.dataSources = dataSources;
+        probeExecutor = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("replication-lag-probe-" + databaseName + "-%d"));
+        executor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("replication-lag-monitor-" + databaseName + "-%d"));
+        executor.scheduleWithFixedDelay(this::probe, 0L, PROBE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Probe replication lag of read data sources.
+     */
+    public synchronized void probe() {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(PROBE_TIMEOUT_MILLIS);
+        Map<String, Future<Optional<Long>>> probes = new HashMap<>(dataSources.size(), 1F);
+        for (ReadwriteSplittingDataSourceGroupRule each : dataSourceGroupRules) {
+            each.getReadwriteSplittingGroup().getReadDataSources().forEach(readDataSourceName -> probes.computeIfAbsent(readDataSourceName, this::submitProbe));
+        }
+        probes.values().forEach(each -> awaitProbe(each, deadlineNanos));
+        long probedMillis = System.currentTimeMillis();
+        for (ReadwriteSplittingDataSourceGroupRule each : dataSourceGroupRules) {
+            for (String readDataSourceName : each.getReadwriteSplittingGroup().getReadDataSources()) {
+                Future<Optional<Long>> probe = probes.get(readDataSourceName);
+                if (!probe.isDone()) {
+                    continue;
+                }
+                Optional<Long> replicationLagMillis = getReplicationLagMillis(probe);
+                if (replicationLagMillis.isPresent()) {
+                    each.getReplicationLags().put(readDataSourceName, new ReplicationLag(replicationLagMillis.get(), probedMillis));
+                } else {
+                    each.getReplicationLags().remove(readDataSourceName);
+                }
+            }
+        }
+    }
+    
+    private Future<Optional<Long>> submitProbe(final String dataSourceName) {
+        Future<Optional<Long>> result = runningProbes.get(dataSourceName);
+        if (null == result || result.isDone()) {
+            result = probeExecutor.submit(() -> findReplicationLagMillis(dataSourceName));
+            runningProbes.put(dataSourceName, result);
+        }
+        return result;
+    }
+    
+    private void awaitProbe(final Future<Optional<Long>> probe, final long deadlineNanos) {
+        try {
+            probe.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException | CancellationException | TimeoutException ignored) {
+        }
+    }
+    
+    private Optional<Long> getReplicationLagMillis(final Future<Optional<Long>> probe) {
+        try {
+            return probe.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (final ExecutionException | CancellationException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private Optional<Long> findReplicationLagMillis(final String dataSourceName) {
+        DataSource dataSource = dataSources.get(dataSourceName);
+        if (null == dataSource) {
+            return Optional.empty();
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<ReplicationLagProbe> probe = DatabaseTypedSPILoader.findService(ReplicationLagProbe.class, DatabaseTypeFactory.get(connection.getMetaData().getURL()));
+            return probe.isPresent() ? probe.get().probe(connection) : Optional.empty();
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.debug("Probe replication lag of data source `{}` failed.", dataSourceName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        probeExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag probe for MySQL.
+ */
+public final class MySQLReplicationLagProbe implements ReplicationLagProbe {
+    
+    private static final int REPLICA_STATEMENT_PATCH_VERSION = 22;
+    
+    @Override
+    public Optional<Long> probe(final Connection connection) throws SQLException {
+        boolean isReplicaStatementSupported = isReplicaStatementSupported(connection.getMetaData());
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(isReplicaStatementSupported ? "SHOW REPLICA STATUS" : "SHOW SLAVE STATUS")) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long secondsBehind = resultSet.getLong(isReplicaStatementSupported ? "Seconds_Behind_Source" : "Seconds_Behind_Master");
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(TimeUnit.SECONDS.toMillis(secondsBehind));
+        }
+    }
+    
+    private boolean isReplicaStatementSupported(final DatabaseMetaData metaData) throws SQLException {
+        int majorVersion = metaData.getDatabaseMajorVersion();
+        if (8 != majorVersion) {
+            return majorVersion > 8;
+        }
+        return metaData.getDatabaseMinorVersion() > 0 || getPatchVersion(metaData.getDatabaseProductVersion()) >= REPLICA_STATEMENT_PATCH_VERSION;
+    }
+    
+    private int getPatchVersion(final String productVersion) {
+        if (null == productVersion) {
+            return 0;
+        }
+        String[] versions = productVersion.split("\\.");
+        if (versions.length < 3) {
+            return 0;
+        }
+        int result = 0;
+        for (char each : versions[2].toCharArray()) {
+            if (!Character.isDigit(each)) {
+                break;
+            }
+            result = result * 10 + each - '0';
+        }
+        return result;
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
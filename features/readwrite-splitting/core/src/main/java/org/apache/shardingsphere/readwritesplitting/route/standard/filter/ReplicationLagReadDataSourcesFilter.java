@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.ReplicationLagAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Replication lag read data sources filter.
+ * 
+ * <p>
+ * Read data sources lagging behind max replication lag of replication lag aware load balancer are excluded, data sources with unknown or expired replication lag are kept.
+ * All read data sources are kept if every one of them is lagging.
+ * </p>
+ */
+public final class ReplicationLagReadDataSourcesFilter implements ReadDataSourcesFilter {
+    
+    @Override
+    public List<String> filter(final ReadwriteSplittingDataSourceGroupRule rule, final List<String> toBeFilteredReadDataSources) {
+        if (!(rule.getLoadBalancer() instanceof ReplicationLagAwareLoadBalanceAlgorithm)) {
+            return toBeFilteredReadDataSources;
+        }
+        long maxReplicationLagMillis = ((ReplicationLagAwareLoadBalanceAlgorithm) rule.getLoadBalancer()).getMaxReplicationLagMillis();
+        if (maxReplicationLagMillis < 0L || rule.getReplicationLags().isEmpty()) {
+            return toBeFilteredReadDataSources;
+        }
+        long nowMillis = System.currentTimeMillis();
+        List<String> result = new LinkedList<>(toBeFilteredReadDataSources);
+        result.removeIf(each -> isLagging(rule.getReplicationLags().get(each), maxReplicationLagMillis, nowMillis));
+        return result.isEmpty() ? toBeFilteredReadDataSources : result;
+    }
+    
+    private boolean isLagging(final ReplicationLag replicationLag, final long maxReplicationLagMillis, final long nowMillis) {
+        return null != replicationLag && !replicationLag.isExpired(nowMillis) && replicationLag.getLagMillis() > maxReplicationLagMillis;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationLagMonitorTest {
+    
+    @Test
+    void assertProbe() throws SQLException {
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(new ReadwriteSplittingDataSourceGroupRuleConfiguration(
+                "readwrite_ds", "write_ds", Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2"), null), TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        rule.getReplicationLags().put("read_ds_1", new ReplicationLag(1L, System.currentTimeMillis()));
+        Map<String, DataSource> dataSources = new HashMap<>(2, 1F);
+        DataSource readDataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(readDataSource.getConnection().getMetaData().getURL()).thenReturn("jdbc:mock://127.0.0.1/foo_ds");
+        dataSources.put("read_ds_0", readDataSource);
+        DataSource unavailableDataSource = mock(DataSource.class);
+        when(unavailableDataSource.getConnection()).thenThrow(SQLException.class);
+        dataSources.put("read_ds_1", unavailableDataSource);
+        try (ReplicationLagMonitor monitor = new ReplicationLagMonitor("foo_db", Collections.singleton(rule), dataSources)) {
+            monitor.probe();
+        }
+        assertThat(rule.getReplicationLags().get("read_ds_0").getLagMillis(), is(5000L));
+        assertFalse(rule.getReplicationLags().containsKey("read_ds_1"));
+        assertFalse(rule.getReplicationLags().containsKey("read_ds_2"));
+    }
+    
+    @Test
+    void assertProbeWithHangingDataSource() throws SQLException {
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(new ReadwriteSplittingDataSourceGroupRuleConfiguration(
+                "readwrite_ds", "write_ds", Collections.singletonList("read_ds_0"), null), TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        ReplicationLag replicationLag = new ReplicationLag(1L, System.currentTimeMillis());
+        rule.getReplicationLags().put("read_ds_0", replicationLag);
+        CountDownLatch latch = new CountDownLatch(1);
+        DataSource hangingDataSource = mock(DataSource.class);
+        when(hangingDataSource.getConnection()).thenAnswer(invocation -> {
+            latch.await();
+            throw new SQLException("");
+        });
+        try (ReplicationLagMonitor monitor = new ReplicationLagMonitor("foo_db", Collections.singleton(rule), Collections.singletonMap("read_ds_0", hangingDataSource))) {
+            long startMillis = System.currentTimeMillis();
+            monitor.probe();
+            assertTrue(System.currentTimeMillis() - startMillis < ReplicationLagMonitor.PROBE_INTERVAL_MILLIS);
+        } finally {
+            latch.countDown();
+        }
+        assertThat(rule.getReplicationLags().get("read_ds_0"), is(replicationLag));
+    }
+}
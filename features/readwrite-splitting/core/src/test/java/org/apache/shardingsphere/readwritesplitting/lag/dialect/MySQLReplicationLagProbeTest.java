@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MySQLReplicationLagProbeTest {
+    
+    @Test
+    void assertProbeWithReplicaStatus() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(8);
+        when(connection.getMetaData().getDatabaseMinorVersion()).thenReturn(4);
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW REPLICA STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(3L);
+        assertThat(new MySQLReplicationLagProbe().probe(connection), is(Optional.of(3000L)));
+    }
+    
+    @Test
+    void assertProbeWithReplicaStatusSincePatchVersion() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(8);
+        when(connection.getMetaData().getDatabaseProductVersion()).thenReturn("8.0.22-log");
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW REPLICA STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(3L);
+        assertThat(new MySQLReplicationLagProbe().probe(connection), is(Optional.of(3000L)));
+    }
+    
+    @Test
+    void assertProbeWithSlaveStatusBeforePatchVersion() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(8);
+        when(connection.getMetaData().getDatabaseProductVersion()).thenReturn("8.0.21");
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW SLAVE STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(2L);
+        assertThat(new MySQLReplicationLagProbe().probe(connection), is(Optional.of(2000L)));
+    }
+    
+    @Test
+    void assertProbeWithSlaveStatus() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(5);
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW SLAVE STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(2L);
+        assertThat(new MySQLReplicationLagProbe().probe(connection), is(Optional.of(2000L)));
+    }
+    
+    @Test
+    void assertProbeWithStoppedReplication() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseMajorVersion()).thenReturn(8);
+        ResultSet resultSet = connection.createStatement().executeQuery("SHOW SLAVE STATUS");
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.wasNull()).thenReturn(true);
+        assertFalse(new MySQLReplicationLagProbe().probe(connection).isPresent());
+    }
+    
+    @Test
+    void assertProbeWithoutReplication() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        assertFalse(new MySQLReplicationLagProbe().probe(connection).isPresent());
+    }
+}
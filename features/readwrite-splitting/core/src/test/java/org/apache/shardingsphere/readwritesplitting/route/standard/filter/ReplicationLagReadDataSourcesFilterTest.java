@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ReplicationLagReadDataSourcesFilterTest {
+    
+    private final List<String> readDataSources = Arrays.asList("read_ds_0", "lagging_ds_1", "unknown_ds_2", "expired_ds_3");
+    
+    @Test
+    void assertFilterWithoutReplicationLagAwareLoadBalancer() {
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(createRule(new RandomLoadBalanceAlgorithm()), readDataSources), is(readDataSources));
+    }
+    
+    @Test
+    void assertFilterWithoutMaxReplicationLag() {
+        LoadBalanceAlgorithm loadBalancer = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", new Properties());
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(createRule(loadBalancer), readDataSources), is(readDataSources));
+    }
+    
+    @Test
+    void assertFilterWithMaxReplicationLag() {
+        LoadBalanceAlgorithm loadBalancer = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", PropertiesBuilder.build(new Property("max-replication-lag-milliseconds", "1000")));
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(createRule(loadBalancer), readDataSources), is(Arrays.asList("read_ds_0", "unknown_ds_2", "expired_ds_3")));
+    }
+    
+    @Test
+    void assertFilterWithAllReadDataSourcesLagging() {
+        LoadBalanceAlgorithm loadBalancer = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", PropertiesBuilder.build(new Property("max-replication-lag-milliseconds", "1000")));
+        List<String> laggingReadDataSources = Collections.singletonList("lagging_ds_1");
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(createRule(loadBalancer), laggingReadDataSources), is(laggingReadDataSources));
+    }
+    
+    private ReadwriteSplittingDataSourceGroupRule createRule(final LoadBalanceAlgorithm loadBalancer) {
+        ReadwriteSplittingDataSourceGroupRule result = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", readDataSources, null), TransactionalReadQueryStrategy.DYNAMIC, loadBalancer);
+        long nowMillis = System.currentTimeMillis();
+        result.getReplicationLags().put("read_ds_0", new ReplicationLag(0L, nowMillis));
+        result.getReplicationLags().put("lagging_ds_1", new ReplicationLag(5000L, nowMillis));
+        result.getReplicationLags().put("expired_ds_3", new ReplicationLag(5000L, nowMillis - TimeUnit.HOURS.toMillis(1L)));
+        return result;
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
@@ -26,19 +28,23 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatem
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.SpillableMemoryQueryResultRows;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtils;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -46,73 +52,174 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>Rows are aggregated by hash map when memory is unlimited. Otherwise rows are sorted by group by values with spilling and then aggregated group by group,
+ * so neither the aggregation nor the final sorting needs to hold all the rows in memory.</p>
  */
 public final class GroupByMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
     
     public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        super(null, schema, selectStatementContext, queryResults);
+        this(queryResults, selectStatementContext, schema, 0L);
+    }
+    
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                     final long maxMemoryBytes) throws SQLException {
+        super(null, schema, selectStatementContext, queryResults, maxMemoryBytes);
     }
     
     @Override
-    protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
-                                              final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+    protected Iterable<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
+                                                  final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        AggregationProjection[] aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        return getMemoryMergeBudget().isUnlimited()
+                ? hashAggregate(selectStatementContext, aggregationProjections, queryResults, valueCaseSensitive)
+                : sortAggregate(selectStatementContext, aggregationProjections, queryResults, valueCaseSensitive);
+    }
+    
+    private List<MemoryQueryResultRow> hashAggregate(final SelectStatementContext selectStatementContext, final AggregationProjection[] aggregationProjections,
+                                                     final List<QueryResult> queryResults, final List<Boolean> valueCaseSensitive) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024, 1F);
+        List<Comparable<?>> aggregationValues = new ArrayList<>(2);
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                AggregationUnit[] aggregationUnits = aggregationMap.get(groupByValue);
+                if (null == aggregationUnits) {
+                    aggregationUnits = createAggregationUnits(aggregationProjections);
+                    aggregationMap.put(groupByValue, aggregationUnits);
+                    dataMap.put(groupByValue, new MemoryQueryResultRow(each));
+                }
+                aggregate(each, aggregationProjections, aggregationUnits, aggregationValues);
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        setAggregationValueToMemoryRow(aggregationProjections, dataMap, aggregationMap);
         return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private Iterable<MemoryQueryResultRow> sortAggregate(final SelectStatementContext selectStatementContext, final AggregationProjection[] aggregationProjections,
+                                                         final List<QueryResult> queryResults, final List<Boolean> valueCaseSensitive) throws SQLException {
+        Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+        SpillableMemoryQueryResultRows result = new SpillableMemoryQueryResultRows(getMemoryMergeBudget(), new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        try (SpillableMemoryQueryResultRows sortedRows = new SpillableMemoryQueryResultRows(getMemoryMergeBudget(), (o1, o2) -> compareGroupByValues(o1, o2, groupByItems))) {
+            for (QueryResult each : queryResults) {
+                while (each.next()) {
+                    sortedRows.add(new MemoryQueryResultRow(each));
+                }
+            }
+            if (!aggregateSortedRows(aggregationProjections, groupByItems, sortedRows, result)) {
+                return getEmptyMemoryResultSetRows(selectStatementContext);
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            result.close();
+            throw ex;
+        }
+    }
+    
+    private boolean aggregateSortedRows(final AggregationProjection[] aggregationProjections, final Collection<OrderByItem> groupByItems,
+                                        final SpillableMemoryQueryResultRows sortedRows, final SpillableMemoryQueryResultRows result) throws SQLException {
+        MemoryQueryResultRow groupRow = null;
+        AggregationUnit[] aggregationUnits = null;
+        List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+        for (MemoryQueryResultRow each : sortedRows) {
+            if (null == groupRow || 0 != compareGroupByValues(groupRow, each, groupByItems)) {
+                if (null != groupRow) {
+                    setAggregationValueToMemoryRow(aggregationProjections, groupRow, aggregationUnits);
+                    result.add(groupRow);
+                }
+                groupRow = each;
+                aggregationUnits = createAggregationUnits(aggregationProjections);
+            }
+            aggregate(each, aggregationProjections, aggregationUnits, aggregationValues);
+        }
+        if (null == groupRow) {
+            return false;
+        }
+        setAggregationValueToMemoryRow(aggregationProjections, groupRow, aggregationUnits);
+        result.add(groupRow);
+        return true;
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private int compareGroupByValues(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2, final Collection<OrderByItem> groupByItems) {
+        for (OrderByItem each : groupByItems) {
+            Object groupValue1 = o1.getCell(each.getIndex());
+            ShardingSpherePreconditions.checkState(null == groupValue1 || groupValue1 instanceof Comparable, () -> new NotImplementComparableValueException("Group by", groupValue1));
+            Object groupValue2 = o2.getCell(each.getIndex());
+            ShardingSpherePreconditions.checkState(null == groupValue2 || groupValue2 instanceof Comparable, () -> new NotImplementComparableValueException("Group by", groupValue2));
+            int result = CompareUtils.compareTo((Comparable) groupValue1, (Comparable) groupValue2, OrderDirection.ASC, NullsOrderType.FIRST, true);
+            if (0 != result) {
+                return result;
+            }
         }
-        aggregationMap.computeIfAbsent(groupByValue, unused -> selectStatementContext.getProjectionsContext().getAggregationProjections().stream()
-                .collect(Collectors.toMap(Function.identity(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection))));
+        return 0;
+    }
+    
+    private AggregationUnit[] createAggregationUnits(final AggregationProjection[] aggregationProjections) {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationProjections[i].getType(), aggregationProjections[i] instanceof AggregationDistinctProjection);
+        }
+        return result;
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+    private void aggregate(final QueryResult queryResult, final AggregationProjection[] aggregationProjections,
+                           final AggregationUnit[] aggregationUnits, final List<Comparable<?>> aggregationValues) throws SQLException {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            aggregationValues.clear();
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(queryResult, aggregationProjections[i]));
             } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
+                for (AggregationProjection derived : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[i].merge(aggregationValues);
+        }
+    }
+    
+    private void aggregate(final MemoryQueryResultRow row, final AggregationProjection[] aggregationProjections,
+                           final AggregationUnit[] aggregationUnits, final List<Comparable<?>> aggregationValues) {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            aggregationValues.clear();
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(row.getCell(aggregationProjections[i].getIndex())));
+            } else {
+                for (AggregationProjection derived : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(row.getCell(derived.getIndex())));
+                }
+            }
+            aggregationUnits[i].merge(aggregationValues);
         }
     }
     
     private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
-        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        return getAggregationValue(queryResult.getValue(aggregationProjection.getIndex(), Object.class));
+    }
+    
+    private Comparable<?> getAggregationValue(final Object result) {
         ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
+    private void setAggregationValueToMemoryRow(final AggregationProjection[] aggregationProjections,
+                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap) {
         for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
-            }
+            setAggregationValueToMemoryRow(aggregationProjections, entry.getValue(), aggregationMap.get(entry.getKey()));
+        }
+    }
+    
+    private void setAggregationValueToMemoryRow(final AggregationProjection[] aggregationProjections, final MemoryQueryResultRow memoryRow, final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            memoryRow.setCell(aggregationProjections[i].getIndex(), aggregationUnits[i].getResult());
         }
     }
     
@@ -143,14 +250,18 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
                                                               final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
         if (dataMap.isEmpty()) {
-            Object[] data = generateReturnData(selectStatementContext);
-            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+            return getEmptyMemoryResultSetRows(selectStatementContext);
         }
         List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
         result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
         return result;
     }
     
+    private List<MemoryQueryResultRow> getEmptyMemoryResultSetRows(final SelectStatementContext selectStatementContext) {
+        Object[] data = generateReturnData(selectStatementContext);
+        return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+    }
+    
     private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
         List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
         Object[] result = new Object[projections.size()];
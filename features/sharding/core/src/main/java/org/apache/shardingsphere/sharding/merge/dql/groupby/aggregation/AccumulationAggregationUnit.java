@@ -24,25 +24,51 @@ import java.util.List;
 
 /**
  * Accumulation aggregation unit.
+ *
+ * <p>Integral values are accumulated with primitive long and only fold into {@link BigDecimal} on overflow or for non-integral values.</p>
  */
 @RequiredArgsConstructor
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private BigDecimal decimalResult;
+    
+    private long longResult;
+    
+    private boolean accumulated;
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        if (null == result) {
-            result = BigDecimal.ZERO;
+        accumulate(values.get(0));
+    }
+    
+    void accumulate(final Comparable<?> value) {
+        accumulated = true;
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            long longValue = ((Number) value).longValue();
+            long sum = longResult + longValue;
+            if (((longResult ^ sum) & (longValue ^ sum)) < 0L) {
+                decimalResult = addDecimal(BigDecimal.valueOf(longResult));
+                longResult = longValue;
+            } else {
+                longResult = sum;
+            }
+            return;
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        decimalResult = addDecimal(new BigDecimal(value.toString()));
+    }
+    
+    private BigDecimal addDecimal(final BigDecimal value) {
+        return null == decimalResult ? value : decimalResult.add(value);
     }
     
     @Override
-    public Comparable<?> getResult() {
-        return result;
+    public BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == decimalResult ? BigDecimal.valueOf(longResult) : decimalResult.add(BigDecimal.valueOf(longResult));
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>Each leaf is the current row of one query result. Internal nodes keep the loser of each match, and the overall winner is kept at the root,
+ * so advancing the winner only replays the matches on the path from its leaf to the root, which takes log(k) comparisons without re-heapifying.
+ * Order by values which compare equal are won by the one with the lower query result index, so ties are emitted in query result order.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int NONE = -1;
+    
+    private final OrderByValue[] leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] nodes;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[leaves.length];
+        nodes = new int[Math.max(leaves.length, 1)];
+        Arrays.fill(nodes, NONE);
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == leaves.length || exhausted[nodes[0]];
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value
+     */
+    public OrderByValue getWinner() {
+        return leaves[nodes[0]];
+    }
+    
+    /**
+     * Move winner order by value to its next row and replay the matches.
+     *
+     * @return has next winner or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        int winner = nodes[0];
+        if (!leaves[winner].next()) {
+            exhausted[winner] = true;
+        }
+        replay(winner);
+        return !isEmpty();
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + leaves.length) / 2; parent > 0; parent /= 2) {
+            if (isBeaten(winner, nodes[parent])) {
+                int loser = winner;
+                winner = nodes[parent];
+                nodes[parent] = loser;
+            }
+        }
+        nodes[0] = winner;
+    }
+    
+    private boolean isBeaten(final int challenger, final int defender) {
+        if (NONE == defender) {
+            return true;
+        }
+        if (NONE == challenger || exhausted[defender]) {
+            return false;
+        }
+        if (exhausted[challenger]) {
+            return true;
+        }
+        int result = leaves[defender].compareTo(leaves[challenger]);
+        return result < 0 || 0 == result && defender < challenger;
+    }
+}
@@ -29,7 +29,6 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
-import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedShardingDataSourceRouteInfoException;
 import org.apache.shardingsphere.sharding.exception.algorithm.NoShardingDatabaseRouteInfoException;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
@@ -38,20 +37,19 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShard
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
-import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
-import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.ShardingTable;
-import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.apache.shardingsphere.sharding.rule.ShardingTableRoutePlan;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -93,17 +91,14 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     }
     
     private Collection<DataNode> getDataNodes(final ShardingRule shardingRule, final ShardingTable shardingTable) {
-        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
-        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(shardingTable),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
+        ShardingTableRoutePlan routePlan = shardingRule.getShardingTableRoutePlan(shardingTable);
         if (isRoutingByHint(shardingRule, shardingTable)) {
-            return routeByHint(shardingTable, databaseShardingStrategy, tableShardingStrategy);
+            return routeByHint(shardingTable, routePlan);
         }
         if (isRoutingByShardingConditions(shardingRule, shardingTable)) {
-            return routeByShardingConditions(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy);
+            return routeByShardingConditions(shardingRule, shardingTable, routePlan);
         }
-        return routeByMixedConditions(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy);
+        return routeByMixedConditions(shardingRule, shardingTable, routePlan);
     }
     
     private boolean isRoutingByHint(final ShardingRule shardingRule, final ShardingTable shardingTable) {
@@ -121,8 +116,8 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         return false;
     }
     
-    private Collection<DataNode> routeByHint(final ShardingTable shardingTable, final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
-        return route0(shardingTable, databaseShardingStrategy, getDatabaseShardingValuesFromHint(), tableShardingStrategy, getTableShardingValuesFromHint());
+    private Collection<DataNode> routeByHint(final ShardingTable shardingTable, final ShardingTableRoutePlan routePlan) {
+        return route0(shardingTable, routePlan, getDatabaseShardingValuesFromHint(), getTableShardingValuesFromHint());
     }
     
     private boolean isRoutingByShardingConditions(final ShardingRule shardingRule, final ShardingTable shardingTable) {
@@ -130,51 +125,47 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
                 || shardingRule.getTableShardingStrategyConfiguration(shardingTable) instanceof HintShardingStrategyConfiguration);
     }
     
-    private Collection<DataNode> routeByShardingConditions(final ShardingRule shardingRule, final ShardingTable shardingTable,
-                                                           final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+    private Collection<DataNode> routeByShardingConditions(final ShardingRule shardingRule, final ShardingTable shardingTable, final ShardingTableRoutePlan routePlan) {
         return shardingConditions.getConditions().isEmpty()
-                ? route0(shardingTable, databaseShardingStrategy, Collections.emptyList(), tableShardingStrategy, Collections.emptyList())
-                : routeByShardingConditionsWithCondition(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy);
+                ? route0(shardingTable, routePlan, Collections.emptyList(), Collections.emptyList())
+                : routeByShardingConditionsWithCondition(shardingRule, shardingTable, routePlan);
     }
     
-    private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable,
-                                                                        final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
-        Collection<DataNode> result = new LinkedList<>();
+    private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable, final ShardingTableRoutePlan routePlan) {
+        RoutedDataNodes result = new RoutedDataNodes(routePlan);
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(shardingTable,
-                    databaseShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, databaseShardingStrategy.getShardingColumns(), each),
-                    tableShardingStrategy, getShardingValuesFromShardingConditions(shardingRule, tableShardingStrategy.getShardingColumns(), each));
-            result.addAll(dataNodes);
-            originalDataNodes.add(dataNodes);
+            RoutedDataNodes routedDataNodes = new RoutedDataNodes(routePlan);
+            route0(shardingTable, routePlan, getShardingValuesFromShardingConditions(shardingRule, routePlan.getDatabaseShardingStrategy().getShardingColumns(), each),
+                    getShardingValuesFromShardingConditions(shardingRule, routePlan.getTableShardingStrategy().getShardingColumns(), each), routedDataNodes);
+            result.addAll(routedDataNodes);
+            originalDataNodes.add(routedDataNodes.toDataNodes());
         }
-        return result;
+        return result.toDataNodes();
     }
     
-    private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final ShardingTable shardingTable,
-                                                        final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+    private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final ShardingTable shardingTable, final ShardingTableRoutePlan routePlan) {
         return shardingConditions.getConditions().isEmpty()
-                ? routeByMixedConditionsWithHint(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy)
-                : routeByMixedConditionsWithCondition(shardingRule, shardingTable, databaseShardingStrategy, tableShardingStrategy);
+                ? routeByMixedConditionsWithHint(shardingRule, shardingTable, routePlan)
+                : routeByMixedConditionsWithCondition(shardingRule, shardingTable, routePlan);
     }
     
-    private Collection<DataNode> routeByMixedConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable,
-                                                                     final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
-        Collection<DataNode> result = new LinkedList<>();
+    private Collection<DataNode> routeByMixedConditionsWithCondition(final ShardingRule shardingRule, final ShardingTable shardingTable, final ShardingTableRoutePlan routePlan) {
+        RoutedDataNodes result = new RoutedDataNodes(routePlan);
         for (ShardingCondition each : shardingConditions.getConditions()) {
-            Collection<DataNode> dataNodes = route0(shardingTable, databaseShardingStrategy,
-                    getDatabaseShardingValues(shardingRule, databaseShardingStrategy, each), tableShardingStrategy, getTableShardingValues(shardingRule, tableShardingStrategy, each));
-            result.addAll(dataNodes);
-            originalDataNodes.add(dataNodes);
+            RoutedDataNodes routedDataNodes = new RoutedDataNodes(routePlan);
+            route0(shardingTable, routePlan, getDatabaseShardingValues(shardingRule, routePlan.getDatabaseShardingStrategy(), each),
+                    getTableShardingValues(shardingRule, routePlan.getTableShardingStrategy(), each), routedDataNodes);
+            result.addAll(routedDataNodes);
+            originalDataNodes.add(routedDataNodes.toDataNodes());
         }
-        return result;
+        return result.toDataNodes();
     }
     
-    private Collection<DataNode> routeByMixedConditionsWithHint(final ShardingRule shardingRule, final ShardingTable shardingTable,
-                                                                final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+    private Collection<DataNode> routeByMixedConditionsWithHint(final ShardingRule shardingRule, final ShardingTable shardingTable, final ShardingTableRoutePlan routePlan) {
         if (shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable) instanceof HintShardingStrategyConfiguration) {
-            return route0(shardingTable, databaseShardingStrategy, getDatabaseShardingValuesFromHint(), tableShardingStrategy, Collections.emptyList());
+            return route0(shardingTable, routePlan, getDatabaseShardingValuesFromHint(), Collections.emptyList());
         }
-        return route0(shardingTable, databaseShardingStrategy, Collections.emptyList(), tableShardingStrategy, getTableShardingValuesFromHint());
+        return route0(shardingTable, routePlan, Collections.emptyList(), getTableShardingValuesFromHint());
     }
     
     private List<ShardingConditionValue> getDatabaseShardingValues(final ShardingRule shardingRule, final ShardingStrategy databaseShardingStrategy, final ShardingCondition shardingCondition) {
@@ -235,25 +226,30 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private List<ShardingConditionValue> getShardingValuesFromShardingConditions(final ShardingRule shardingRule, final Collection<String> shardingColumns, final ShardingCondition shardingCondition) {
         List<ShardingConditionValue> result = new ArrayList<>(shardingColumns.size());
+        Collection<String> caseInsensitiveShardingColumns = new CaseInsensitiveSet<>(shardingColumns);
         for (ShardingConditionValue each : shardingCondition.getValues()) {
             Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each.getTableName());
             if ((logicTableName.equalsIgnoreCase(each.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName))
-                    && new CaseInsensitiveSet<>(shardingColumns).contains(each.getColumnName())) {
+                    && caseInsensitiveShardingColumns.contains(each.getColumnName())) {
                 result.add(each);
             }
         }
         return result;
     }
     
-    private Collection<DataNode> route0(final ShardingTable shardingTable,
-                                        final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues,
-                                        final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
-        Collection<String> routedDataSources = routeDataSources(shardingTable, databaseShardingStrategy, databaseShardingValues);
-        Collection<DataNode> result = new LinkedList<>();
+    private Collection<DataNode> route0(final ShardingTable shardingTable, final ShardingTableRoutePlan routePlan,
+                                        final List<ShardingConditionValue> databaseShardingValues, final List<ShardingConditionValue> tableShardingValues) {
+        RoutedDataNodes result = new RoutedDataNodes(routePlan);
+        route0(shardingTable, routePlan, databaseShardingValues, tableShardingValues, result);
+        return result.toDataNodes();
+    }
+    
+    private void route0(final ShardingTable shardingTable, final ShardingTableRoutePlan routePlan,
+                        final List<ShardingConditionValue> databaseShardingValues, final List<ShardingConditionValue> tableShardingValues, final RoutedDataNodes routedDataNodes) {
+        Collection<String> routedDataSources = routeDataSources(shardingTable, routePlan.getDatabaseShardingStrategy(), databaseShardingValues);
         for (String each : routedDataSources) {
-            result.addAll(routeTables(shardingTable, each, tableShardingStrategy, tableShardingValues));
+            routeTables(shardingTable, each, routePlan.getTableShardingStrategy(), tableShardingValues, routedDataNodes);
         }
-        return result;
     }
     
     private Collection<String> routeDataSources(final ShardingTable shardingTable, final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues) {
@@ -267,22 +263,51 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         return result;
     }
     
-    private Collection<DataNode> routeTables(final ShardingTable shardingTable, final String routedDataSource,
-                                             final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
+    private void routeTables(final ShardingTable shardingTable, final String routedDataSource,
+                             final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues, final RoutedDataNodes routedDataNodes) {
         Collection<String> availableTargetTables = shardingTable.getActualTableNames(routedDataSource);
         Collection<String> routedTables = tableShardingValues.isEmpty()
                 ? availableTargetTables
                 : tableShardingStrategy.doSharding(availableTargetTables, tableShardingValues, shardingTable.getTableDataNode(), props);
-        Collection<DataNode> result = new LinkedList<>();
         for (String each : routedTables) {
-            result.add(new DataNode(routedDataSource, each));
+            routedDataNodes.add(routedDataSource, each);
         }
-        return result;
     }
     
-    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms,
-                                                    final String defaultShardingColumn) {
-        return null == shardingStrategyConfig ? new NoneShardingStrategy()
-                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
+    /**
+     * Routed data nodes, planned data nodes are collected by ids and materialized at the end.
+     */
+    private static final class RoutedDataNodes {
+        
+        private final ShardingTableRoutePlan routePlan;
+        
+        private final BitSet dataNodeIds;
+        
+        private final Collection<DataNode> unplannedDataNodes = new LinkedHashSet<>();
+        
+        RoutedDataNodes(final ShardingTableRoutePlan routePlan) {
+            this.routePlan = routePlan;
+            dataNodeIds = new BitSet(routePlan.getDataNodeSize());
+        }
+        
+        void add(final String dataSourceName, final String actualTableName) {
+            int dataNodeId = routePlan.findDataNodeId(dataSourceName, actualTableName);
+            if (dataNodeId < 0) {
+                unplannedDataNodes.add(new DataNode(dataSourceName, actualTableName));
+            } else {
+                dataNodeIds.set(dataNodeId);
+            }
+        }
+        
+        void addAll(final RoutedDataNodes routedDataNodes) {
+            dataNodeIds.or(routedDataNodes.dataNodeIds);
+            unplannedDataNodes.addAll(routedDataNodes.unplannedDataNodes);
+        }
+        
+        Collection<DataNode> toDataNodes() {
+            Collection<DataNode> result = routePlan.getDataNodes(dataNodeIds);
+            result.addAll(unplannedDataNodes);
+            return result;
+        }
     }
 }
@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.sharding.rule;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.cedarsoftware.util.CaseInsensitiveSet;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
@@ -34,9 +36,12 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.IncrementalRuleBuildSupported;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableReferenceRuleConfiguration;
@@ -50,11 +55,17 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardS
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingDataNodeRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingTableNamesRuleAttribute;
+import org.apache.shardingsphere.sharding.rule.attribute.ShardingTablePushDownRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.checker.ShardingRuleChecker;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAuditAlgorithm;
+import org.apache.shardingsphere.sharding.yaml.config.YamlShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.yaml.swapper.YamlShardingRuleConfigurationSwapper;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
@@ -66,6 +77,7 @@ import javax.sql.DataSource;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -82,7 +94,7 @@ import java.util.stream.Collectors;
  * Sharding rule.
  */
 @Getter
-public final class ShardingRule implements DatabaseRule {
+public final class ShardingRule implements DatabaseRule, IncrementalRuleBuildSupported<ShardingRuleConfiguration> {
     
     private static final String ALGORITHM_EXPRESSION_KEY = "algorithm-expression";
     
@@ -100,6 +112,9 @@ public final class ShardingRule implements DatabaseRule {
     
     private final Map<String, BindingTableRule> bindingTableRules = new CaseInsensitiveMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<ShardingTable, ShardingTableRoutePlan> shardingTableRoutePlans;
+    
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
     
     private final ShardingStrategyConfiguration defaultTableShardingStrategyConfig;
@@ -138,10 +153,54 @@ public final class ShardingRule implements DatabaseRule {
             ((ComputeNodeInstanceContextAware) defaultKeyGenerateAlgorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
         }
         shardingCache = null == ruleConfig.getShardingCache() ? null : new ShardingCache(ruleConfig.getShardingCache(), this);
-        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()));
+        shardingTableRoutePlans = createShardingTableRoutePlans(shardingTables.values(), Collections.emptyMap());
+        attributes = createRuleAttributes(shardingTables);
         shardingRuleChecker.check(ruleConfig);
     }
     
+    private ShardingRule(final ShardingRule originalRule, final ShardingRuleConfiguration ruleConfig, final Map<String, ShardingTable> toBeAddedShardingTables) {
+        configuration = ruleConfig;
+        dataSourceNames = originalRule.dataSourceNames;
+        shardingAlgorithms.putAll(originalRule.shardingAlgorithms);
+        keyGenerators.putAll(originalRule.keyGenerators);
+        auditors.putAll(originalRule.auditors);
+        shardingTables.putAll(originalRule.shardingTables);
+        shardingTables.putAll(toBeAddedShardingTables);
+        bindingTableRules.putAll(originalRule.bindingTableRules);
+        defaultDatabaseShardingStrategyConfig = originalRule.defaultDatabaseShardingStrategyConfig;
+        defaultTableShardingStrategyConfig = originalRule.defaultTableShardingStrategyConfig;
+        defaultAuditStrategy = originalRule.defaultAuditStrategy;
+        defaultKeyGenerateAlgorithm = originalRule.defaultKeyGenerateAlgorithm;
+        defaultShardingColumn = originalRule.defaultShardingColumn;
+        shardingCache = null == ruleConfig.getShardingCache() ? null : new ShardingCache(ruleConfig.getShardingCache(), this);
+        shardingTableRoutePlans = createShardingTableRoutePlans(toBeAddedShardingTables.values(), originalRule.shardingTableRoutePlans);
+        attributes = createRuleAttributes(shardingTables);
+    }
+    
+    private RuleAttributes createRuleAttributes(final Map<String, ShardingTable> shardingTables) {
+        return new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()), new ShardingTablePushDownRuleAttribute(this));
+    }
+    
+    private Map<ShardingTable, ShardingTableRoutePlan> createShardingTableRoutePlans(final Collection<ShardingTable> shardingTables,
+                                                                                     final Map<ShardingTable, ShardingTableRoutePlan> existedShardingTableRoutePlans) {
+        Map<ShardingTable, ShardingTableRoutePlan> result = new HashMap<>(existedShardingTableRoutePlans);
+        for (ShardingTable each : shardingTables) {
+            result.put(each, createShardingTableRoutePlan(each));
+        }
+        return result;
+    }
+    
+    private ShardingTableRoutePlan createShardingTableRoutePlan(final ShardingTable shardingTable) {
+        return new ShardingTableRoutePlan(shardingTable,
+                createShardingStrategy(getDatabaseShardingStrategyConfiguration(shardingTable)), createShardingStrategy(getTableShardingStrategyConfiguration(shardingTable)));
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig
+                ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
+    }
+    
     private ShardingStrategyConfiguration createDefaultDatabaseShardingStrategyConfiguration(final ShardingRuleConfiguration ruleConfig) {
         Optional.ofNullable(ruleConfig.getDefaultDatabaseShardingStrategy()).ifPresent(optional -> checkManualShardingAlgorithm(optional.getShardingAlgorithmName(), "default"));
         return null == ruleConfig.getDefaultDatabaseShardingStrategy() ? new NoneShardingStrategyConfiguration() : ruleConfig.getDefaultDatabaseShardingStrategy();
@@ -235,6 +294,79 @@ public final class ShardingRule implements DatabaseRule {
         return result;
     }
     
+    @Override
+    public Optional<ShardingSphereRule> buildIncrementally(final ShardingRuleConfiguration toBeUpdatedRuleConfig) {
+        Map<String, ShardingTable> toBeAddedShardingTables = createToBeAddedShardingTables(toBeUpdatedRuleConfig);
+        if (toBeAddedShardingTables.isEmpty()) {
+            return Optional.empty();
+        }
+        shardingRuleChecker.checkToBeAddedShardingTables(toBeAddedShardingTables);
+        return Optional.of(new ShardingRule(this, toBeUpdatedRuleConfig, toBeAddedShardingTables));
+    }
+    
+    private Map<String, ShardingTable> createToBeAddedShardingTables(final ShardingRuleConfiguration toBeUpdatedRuleConfig) {
+        if (shardingTables.isEmpty() || !isOnlyShardingTablesAdded(toBeUpdatedRuleConfig)) {
+            return Collections.emptyMap();
+        }
+        Collection<String> bindingTableNames = toBeUpdatedRuleConfig.getBindingTableGroups().stream()
+                .flatMap(each -> Splitter.on(",").trimResults().splitToList(each.getReference()).stream()).collect(Collectors.toCollection(CaseInsensitiveSet::new));
+        Collection<ShardingTableRuleConfiguration> toBeAddedTableRuleConfigs = toBeUpdatedRuleConfig.getTables().stream()
+                .filter(each -> !shardingTables.containsKey(each.getLogicTable())).collect(Collectors.toList());
+        Collection<ShardingAutoTableRuleConfiguration> toBeAddedAutoTableRuleConfigs = toBeUpdatedRuleConfig.getAutoTables().stream()
+                .filter(each -> !shardingTables.containsKey(each.getLogicTable())).collect(Collectors.toList());
+        if (!toBeAddedTableRuleConfigs.stream().allMatch(each -> isIncrementallyAddable(each, bindingTableNames))
+                || !toBeAddedAutoTableRuleConfigs.stream().allMatch(each -> isIncrementallyAddable(each, bindingTableNames))) {
+            return Collections.emptyMap();
+        }
+        Map<String, ShardingTable> result = new CaseInsensitiveMap<>(createShardingTables(toBeAddedTableRuleConfigs, toBeUpdatedRuleConfig.getDefaultKeyGenerateStrategy()));
+        result.putAll(createShardingAutoTables(toBeAddedAutoTableRuleConfigs, toBeUpdatedRuleConfig.getDefaultKeyGenerateStrategy()));
+        return result;
+    }
+    
+    private boolean isOnlyShardingTablesAdded(final ShardingRuleConfiguration toBeUpdatedRuleConfig) {
+        Collection<String> logicTableNames = new CaseInsensitiveSet<>();
+        toBeUpdatedRuleConfig.getTables().forEach(each -> logicTableNames.add(each.getLogicTable()));
+        toBeUpdatedRuleConfig.getAutoTables().forEach(each -> logicTableNames.add(each.getLogicTable()));
+        if (logicTableNames.size() <= shardingTables.size() || !logicTableNames.containsAll(shardingTables.keySet())) {
+            return false;
+        }
+        return YamlEngine.marshal(swapToYamlConfigurationWithoutToBeAddedTables(configuration)).equals(YamlEngine.marshal(swapToYamlConfigurationWithoutToBeAddedTables(toBeUpdatedRuleConfig)));
+    }
+    
+    private YamlShardingRuleConfiguration swapToYamlConfigurationWithoutToBeAddedTables(final ShardingRuleConfiguration ruleConfig) {
+        YamlShardingRuleConfiguration result = new YamlShardingRuleConfigurationSwapper().swapToYamlConfiguration(ruleConfig);
+        result.getTables().keySet().removeIf(each -> !shardingTables.containsKey(each));
+        result.getAutoTables().keySet().removeIf(each -> !shardingTables.containsKey(each));
+        return result;
+    }
+    
+    private boolean isIncrementallyAddable(final ShardingTableRuleConfiguration tableRuleConfig, final Collection<String> bindingTableNames) {
+        return !bindingTableNames.contains(tableRuleConfig.getLogicTable()) && !Strings.isNullOrEmpty(tableRuleConfig.getActualDataNodes())
+                && dataSourceNames.containsAll(getDataSourceNames(tableRuleConfig)) && isRegisteredShardingAlgorithm(tableRuleConfig.getDatabaseShardingStrategy())
+                && isRegisteredShardingAlgorithm(tableRuleConfig.getTableShardingStrategy()) && isRegisteredKeyGenerator(tableRuleConfig.getKeyGenerateStrategy())
+                && isRegisteredAuditors(tableRuleConfig.getAuditStrategy());
+    }
+    
+    private boolean isIncrementallyAddable(final ShardingAutoTableRuleConfiguration autoTableRuleConfig, final Collection<String> bindingTableNames) {
+        return !bindingTableNames.contains(autoTableRuleConfig.getLogicTable()) && !Strings.isNullOrEmpty(autoTableRuleConfig.getActualDataSources())
+                && dataSourceNames.containsAll(getDataSourceNames(autoTableRuleConfig)) && null != autoTableRuleConfig.getShardingStrategy()
+                && isRegisteredShardingAlgorithm(autoTableRuleConfig.getShardingStrategy()) && isRegisteredKeyGenerator(autoTableRuleConfig.getKeyGenerateStrategy())
+                && isRegisteredAuditors(autoTableRuleConfig.getAuditStrategy());
+    }
+    
+    private boolean isRegisteredShardingAlgorithm(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig || shardingStrategyConfig instanceof NoneShardingStrategyConfiguration
+                || null != shardingStrategyConfig.getShardingAlgorithmName() && shardingAlgorithms.containsKey(shardingStrategyConfig.getShardingAlgorithmName());
+    }
+    
+    private boolean isRegisteredKeyGenerator(final KeyGenerateStrategyConfiguration keyGenerateStrategyConfig) {
+        return null == keyGenerateStrategyConfig || null != keyGenerateStrategyConfig.getKeyGeneratorName() && keyGenerators.containsKey(keyGenerateStrategyConfig.getKeyGeneratorName());
+    }
+    
+    private boolean isRegisteredAuditors(final ShardingAuditStrategyConfiguration auditStrategyConfig) {
+        return null == auditStrategyConfig || auditStrategyConfig.getAuditorNames().stream().allMatch(auditors::containsKey);
+    }
+    
     /**
      * Get database sharding strategy configuration.
      *
@@ -286,6 +418,18 @@ public final class ShardingRule implements DatabaseRule {
         return Optional.of(shardingTables.get(logicTableName));
     }
     
+    /**
+     * Get route plan of sharding table.
+     *
+     * <p>Route plans are built together with sharding tables of the rule.</p>
+     *
+     * @param shardingTable sharding table of this rule
+     * @return route plan of sharding table
+     */
+    public ShardingTableRoutePlan getShardingTableRoutePlan(final ShardingTable shardingTable) {
+        return shardingTableRoutePlans.get(shardingTable);
+    }
+    
     /**
      * Find sharding table via actual table name.
      *
@@ -354,6 +498,45 @@ public final class ShardingRule implements DatabaseRule {
         return isJoinConditionContainsShardingColumns(schema, select, logicTableNames, select.getWhereSegments());
     }
     
+    /**
+     * Judge whether equi-join of two logic tables is co-located or not.
+     *
+     * @param leftTableName left logic table name
+     * @param leftColumnNames left join column names
+     * @param rightTableName right logic table name
+     * @param rightColumnNames right join column names, column at the same index of left join column names is its equal column
+     * @return whether equi-join of two logic tables is co-located or not
+     */
+    public boolean isColocatedJoin(final String leftTableName, final List<String> leftColumnNames, final String rightTableName, final List<String> rightColumnNames) {
+        if (!isAllBindingTables(Arrays.asList(leftTableName, rightTableName))) {
+            return false;
+        }
+        ShardingTable leftShardingTable = getShardingTable(leftTableName);
+        ShardingTable rightShardingTable = getShardingTable(rightTableName);
+        return isJoinOnShardingColumns(getDatabaseShardingStrategyConfiguration(leftShardingTable), leftColumnNames, getDatabaseShardingStrategyConfiguration(rightShardingTable), rightColumnNames)
+                && isJoinOnShardingColumns(getTableShardingStrategyConfiguration(leftShardingTable), leftColumnNames, getTableShardingStrategyConfiguration(rightShardingTable), rightColumnNames);
+    }
+    
+    private boolean isJoinOnShardingColumns(final ShardingStrategyConfiguration leftConfig, final List<String> leftColumnNames,
+                                            final ShardingStrategyConfiguration rightConfig, final List<String> rightColumnNames) {
+        if (leftConfig instanceof NoneShardingStrategyConfiguration) {
+            return true;
+        }
+        Collection<String> joinedShardingColumns = new CaseInsensitiveSet<>();
+        for (int i = 0; i < leftColumnNames.size(); i++) {
+            if (findShardingColumn(leftConfig, leftColumnNames.get(i)).isPresent() && findShardingColumn(rightConfig, rightColumnNames.get(i)).isPresent()) {
+                joinedShardingColumns.add(leftColumnNames.get(i));
+            }
+        }
+        if (leftConfig instanceof StandardShardingStrategyConfiguration) {
+            return !joinedShardingColumns.isEmpty();
+        }
+        if (leftConfig instanceof ComplexShardingStrategyConfiguration) {
+            return joinedShardingColumns.containsAll(Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) leftConfig).getShardingColumns()));
+        }
+        return false;
+    }
+    
     private Optional<BindingTableRule> findBindingTableRule(final Collection<String> logicTableNames) {
         for (String each : logicTableNames) {
             Optional<BindingTableRule> result = findBindingTableRule(each);
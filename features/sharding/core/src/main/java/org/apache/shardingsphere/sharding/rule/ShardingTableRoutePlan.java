@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Route plan of sharding table.
+ * 
+ * <p>
+ * Route plan is built together with its sharding table by sharding rule. It holds sharding strategy instances,
+ * and identifies actual data nodes by dense integer ids, so routed data nodes can be collected into bitsets and materialized at the end.
+ * </p>
+ */
+public final class ShardingTableRoutePlan {
+    
+    @Getter
+    private final ShardingStrategy databaseShardingStrategy;
+    
+    @Getter
+    private final ShardingStrategy tableShardingStrategy;
+    
+    private final DataNode[] dataNodes;
+    
+    private final Map<String, Map<String, Integer>> dataNodeIds;
+    
+    private final Map<String, Map<String, Integer>> caseInsensitiveDataNodeIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    
+    public ShardingTableRoutePlan(final ShardingTable shardingTable, final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+        this.databaseShardingStrategy = databaseShardingStrategy;
+        this.tableShardingStrategy = tableShardingStrategy;
+        dataNodes = shardingTable.getActualDataNodes().toArray(new DataNode[0]);
+        dataNodeIds = new HashMap<>(shardingTable.getActualDataSourceNames().size(), 1F);
+        for (int i = 0; i < dataNodes.length; i++) {
+            dataNodeIds.computeIfAbsent(dataNodes[i].getDataSourceName(), key -> new HashMap<>()).putIfAbsent(dataNodes[i].getTableName(), i);
+        }
+        for (Entry<String, Map<String, Integer>> entry : dataNodeIds.entrySet()) {
+            caseInsensitiveDataNodeIds.computeIfAbsent(entry.getKey(), key -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER)).putAll(entry.getValue());
+        }
+    }
+    
+    /**
+     * Get data node size.
+     *
+     * @return data node size
+     */
+    public int getDataNodeSize() {
+        return dataNodes.length;
+    }
+    
+    /**
+     * Find data node id.
+     *
+     * @param dataSourceName data source name
+     * @param actualTableName actual table name
+     * @return data node id, -1 if data node is not planned
+     */
+    public int findDataNodeId(final String dataSourceName, final String actualTableName) {
+        Integer result = findDataNodeId(dataNodeIds, dataSourceName, actualTableName);
+        if (null == result) {
+            result = findDataNodeId(caseInsensitiveDataNodeIds, dataSourceName, actualTableName);
+        }
+        return null == result ? -1 : result;
+    }
+    
+    private Integer findDataNodeId(final Map<String, Map<String, Integer>> dataNodeIds, final String dataSourceName, final String actualTableName) {
+        Map<String, Integer> tableIds = dataNodeIds.get(dataSourceName);
+        return null == tableIds ? null : tableIds.get(actualTableName);
+    }
+    
+    /**
+     * Get data nodes.
+     *
+     * @param dataNodeIds data node ids
+     * @return data nodes in id order
+     */
+    public List<DataNode> getDataNodes(final BitSet dataNodeIds) {
+        List<DataNode> result = new ArrayList<>(dataNodeIds.cardinality());
+        for (int i = dataNodeIds.nextSetBit(0); i >= 0; i = dataNodeIds.nextSetBit(i + 1)) {
+            result.add(dataNodes[i]);
+        }
+        return result;
+    }
+}
@@ -42,6 +42,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -58,14 +59,27 @@ public class ShardingRuleChecker {
      * @param ruleConfig sharding rule configuration
      */
     public void check(final ShardingRuleConfiguration ruleConfig) {
-        checkUniqueActualDataNodesInTableRules();
+        checkUniqueActualDataNodesInTableRules(shardingRule.getShardingTables());
         checkBindingTableConfiguration(ruleConfig);
-        checkInlineShardingAlgorithmsInTableRules();
+        checkInlineShardingAlgorithmsInTableRules(shardingRule.getShardingTables());
     }
     
-    private void checkUniqueActualDataNodesInTableRules() {
-        Set<DataNode> uniqueActualDataNodes = new HashSet<>(shardingRule.getShardingTables().size(), 1F);
-        shardingRule.getShardingTables().forEach((key, value) -> {
+    /**
+     * Check to be added sharding tables.
+     *
+     * @param toBeAddedShardingTables to be added sharding tables
+     */
+    public void checkToBeAddedShardingTables(final Map<String, ShardingTable> toBeAddedShardingTables) {
+        Map<String, ShardingTable> shardingTables = new LinkedHashMap<>(shardingRule.getShardingTables().size() + toBeAddedShardingTables.size(), 1F);
+        shardingTables.putAll(shardingRule.getShardingTables());
+        shardingTables.putAll(toBeAddedShardingTables);
+        checkUniqueActualDataNodesInTableRules(shardingTables);
+        checkInlineShardingAlgorithmsInTableRules(toBeAddedShardingTables);
+    }
+    
+    private void checkUniqueActualDataNodesInTableRules(final Map<String, ShardingTable> shardingTables) {
+        Set<DataNode> uniqueActualDataNodes = new HashSet<>(shardingTables.size(), 1F);
+        shardingTables.forEach((key, value) -> {
             DataNode sampleActualDataNode = value.getActualDataNodes().iterator().next();
             ShardingSpherePreconditions.checkState(!uniqueActualDataNodes.contains(sampleActualDataNode),
                     () -> new DuplicateSharingActualDataNodeException(key, sampleActualDataNode.getDataSourceName(), sampleActualDataNode.getTableName()));
@@ -154,8 +168,8 @@ public class ShardingRuleChecker {
         return null == shardingColumn ? "" : shardingColumn;
     }
     
-    private void checkInlineShardingAlgorithmsInTableRules() {
-        shardingRule.getShardingTables().forEach((key, value) -> {
+    private void checkInlineShardingAlgorithmsInTableRules(final Map<String, ShardingTable> shardingTables) {
+        shardingTables.forEach((key, value) -> {
             validateInlineShardingAlgorithm(value, shardingRule.getTableShardingStrategyConfiguration(value), value.getTableDataNode());
             validateInlineShardingAlgorithm(value, shardingRule.getDatabaseShardingStrategyConfiguration(value), value.getDataSourceDataNode());
         });
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    @Test
+    void assertMergeWithAsc() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Arrays.asList(
+                createOrderByValue(OrderDirection.ASC, 1, 4, 7), createOrderByValue(OrderDirection.ASC, 2, 5, 8), createOrderByValue(OrderDirection.ASC, 3, 6, 9)));
+        assertThat(merge(actual), is(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L)));
+    }
+    
+    @Test
+    void assertMergeWithDescAndDuplicatedValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Arrays.asList(
+                createOrderByValue(OrderDirection.DESC, 9L, 5L), createOrderByValue(OrderDirection.DESC, 9, 3), createOrderByValue(OrderDirection.DESC, 8L), createOrderByValue(OrderDirection.DESC, 5)));
+        assertThat(merge(actual), is(Arrays.asList(9L, 9L, 8L, 5L, 5L, 3L)));
+    }
+    
+    @Test
+    void assertMergeWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.singletonList(createOrderByValue(OrderDirection.ASC, 1, 2)));
+        assertThat(merge(actual), is(Arrays.asList(1L, 2L)));
+    }
+    
+    @Test
+    void assertIsEmptyWithoutOrderByValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertFalse(actual.next());
+    }
+    
+    private List<Long> merge(final OrderByValueLoserTree loserTree) throws SQLException {
+        List<Long> result = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            result.add(((Number) loserTree.getWinner().getQueryResult().getValue(1, Object.class)).longValue());
+            loserTree.next();
+        }
+        return result;
+    }
+    
+    private OrderByValue createOrderByValue(final OrderDirection orderDirection, final Object... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        Boolean[] nextResults = new Boolean[values.length];
+        Arrays.fill(nextResults, true);
+        nextResults[values.length - 1] = false;
+        when(queryResult.next()).thenReturn(true, nextResults);
+        Object[] repeatedValues = new Object[values.length * 2 - 1];
+        for (int i = 0; i < repeatedValues.length; i++) {
+            repeatedValues[i] = values[(i + 1) / 2];
+        }
+        when(queryResult.getValue(1, Object.class)).thenReturn(values[0], repeatedValues);
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, NullsOrderType.FIRST));
+        orderByItem.setIndex(1);
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getTablesContext().getSimpleTables()).thenReturn(Collections.emptyList());
+        when(selectStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        OrderByValue result = new OrderByValue(queryResult, Collections.singletonList(orderByItem), selectStatementContext, mock(ShardingSphereSchema.class));
+        assertTrue(result.next());
+        return result;
+    }
+}
@@ -33,7 +33,9 @@ import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sharding.algorithm.audit.DMLShardingConditionsShardingAuditAlgorithm;
 import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
@@ -43,12 +45,14 @@ import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfi
 import org.apache.shardingsphere.sharding.api.config.strategy.audit.ShardingAuditStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.keygen.KeyGenerateStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.exception.metadata.DuplicateSharingActualDataNodeException;
 import org.apache.shardingsphere.sharding.exception.metadata.InvalidBindingTablesException;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.yaml.swapper.YamlShardingRuleConfigurationSwapper;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
@@ -78,6 +82,8 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -283,6 +289,39 @@ class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().isAllBindingTables(Collections.singleton("new_Table")));
     }
     
+    @Test
+    void assertIsColocatedJoin() {
+        assertTrue(createMaximumShardingRule().isColocatedJoin("logic_Table", Arrays.asList("user_id", "order_id"), "sub_Logic_Table", Arrays.asList("user_id", "order_id")));
+    }
+    
+    @Test
+    void assertIsNotColocatedJoinWithoutTableShardingColumn() {
+        assertFalse(createMaximumShardingRule().isColocatedJoin("logic_Table", Collections.singletonList("user_id"), "sub_Logic_Table", Collections.singletonList("user_id")));
+    }
+    
+    @Test
+    void assertIsColocatedJoinWithComplexShardingStrategy() {
+        ShardingRule actual = createBindingShardingRule(new ComplexShardingStrategyConfiguration("user_id,order_id", "core_complex_fixture"));
+        assertTrue(actual.isColocatedJoin("logic_Table", Arrays.asList("user_id", "order_id"), "sub_Logic_Table", Arrays.asList("user_id", "order_id")));
+    }
+    
+    @Test
+    void assertIsNotColocatedJoinWithComplexShardingStrategyOnNonShardingColumn() {
+        ShardingRule actual = createBindingShardingRule(new ComplexShardingStrategyConfiguration("user_id,order_id", "core_complex_fixture"));
+        assertFalse(actual.isColocatedJoin("logic_Table", Arrays.asList("user_id", "status"), "sub_Logic_Table", Arrays.asList("user_id", "status")));
+    }
+    
+    @Test
+    void assertIsNotColocatedJoinWithHintShardingStrategy() {
+        ShardingRule actual = createBindingShardingRule(new HintShardingStrategyConfiguration("core_hint_fixture"));
+        assertFalse(actual.isColocatedJoin("logic_Table", Collections.singletonList("user_id"), "sub_Logic_Table", Collections.singletonList("user_id")));
+    }
+    
+    @Test
+    void assertIsNotColocatedJoinWithoutBindingTables() {
+        assertFalse(createMaximumShardingRule().isColocatedJoin("logic_Table", Collections.singletonList("user_id"), "new_Table", Collections.singletonList("user_id")));
+    }
+    
     @Test
     void assertGetBindingTableRuleForNotConfiguration() {
         assertFalse(createMinimumShardingRule().findBindingTableRule("logic_Table").isPresent());
@@ -534,6 +573,118 @@ class ShardingRuleTest {
         assertThat(shardingRule.getDataSourceNames(), is(new LinkedHashSet<>(Arrays.asList("ds_0", "ds_1", "resource0", "resource1"))));
     }
     
+    @Test
+    void assertBuildIncrementallyWithToBeAddedShardingTable() {
+        ShardingRule original = createMinimumShardingRule();
+        ShardingTable originalShardingTable = original.getShardingTable("logic_table");
+        ShardingTableRoutePlan originalRoutePlan = original.getShardingTableRoutePlan(originalShardingTable);
+        original.getConfiguration().getTables().add(new ShardingTableRuleConfiguration("NEW_TABLE", "ds_${0..1}.new_table_${0..2}"));
+        Optional<ShardingSphereRule> actual = original.buildIncrementally(original.getConfiguration());
+        assertTrue(actual.isPresent());
+        ShardingRule actualShardingRule = (ShardingRule) actual.get();
+        assertThat(actualShardingRule, not(sameInstance(original)));
+        assertTrue(actualShardingRule.findShardingTable("new_table").isPresent());
+        assertThat(actualShardingRule.getShardingTable("logic_table"), sameInstance(originalShardingTable));
+        assertFalse(original.findShardingTable("new_table").isPresent());
+        assertFalse(original.getAttributes().getAttribute(TableMapperRuleAttribute.class).getLogicTableNames().contains("NEW_TABLE"));
+        assertThat(actualShardingRule.getAttributes().getAttribute(DataNodeRuleAttribute.class).getDataNodesByTableName("new_table").size(), is(6));
+        assertThat(actualShardingRule.getShardingTableRoutePlan(actualShardingRule.getShardingTable("new_table")).getDataNodeSize(), is(6));
+        assertThat(actualShardingRule.getShardingTableRoutePlan(originalShardingTable), sameInstance(originalRoutePlan));
+        assertThat(actualShardingRule.getKeyGenerators(), is(original.getKeyGenerators()));
+        assertThat(actualShardingRule.getDefaultKeyGenerateAlgorithm(), sameInstance(original.getDefaultKeyGenerateAlgorithm()));
+    }
+    
+    @Test
+    void assertBuildIncrementallyWithoutToBeAddedShardingTable() {
+        ShardingRule actual = createMinimumShardingRule();
+        assertFalse(actual.buildIncrementally(actual.getConfiguration()).isPresent());
+    }
+    
+    @Test
+    void assertBuildIncrementallyWithUnregisteredShardingAlgorithm() {
+        ShardingRule actual = createMinimumShardingRule();
+        actual.getConfiguration().getTables().add(createTableRuleConfiguration("NEW_TABLE", "ds_${0..1}.new_table_${0..2}"));
+        assertFalse(actual.buildIncrementally(actual.getConfiguration()).isPresent());
+        assertFalse(actual.findShardingTable("new_table").isPresent());
+    }
+    
+    @Test
+    void assertBuildIncrementallyWithUnusedDataSource() {
+        ShardingRule actual = createMinimumShardingRule();
+        actual.getConfiguration().getTables().add(new ShardingTableRuleConfiguration("NEW_TABLE", "resource${0..1}.new_table_${0..2}"));
+        assertFalse(actual.buildIncrementally(actual.getConfiguration()).isPresent());
+    }
+    
+    @Test
+    void assertBuildIncrementallyWithDuplicateActualDataNode() {
+        ShardingRule actual = createMinimumShardingRule();
+        actual.getConfiguration().getTables().add(new ShardingTableRuleConfiguration("NEW_TABLE", "ds_${0..1}.table_${0..2}"));
+        assertThrows(DuplicateSharingActualDataNodeException.class, () -> actual.buildIncrementally(actual.getConfiguration()));
+        assertFalse(actual.findShardingTable("new_table").isPresent());
+    }
+    
+    @Test
+    void assertBuildIncrementallyWithCopiedRuleConfiguration() {
+        ShardingRule actual = createMinimumShardingRule();
+        Optional<ShardingSphereRule> built = actual.buildIncrementally(createToBeUpdatedRuleConfiguration(actual));
+        assertTrue(built.isPresent());
+        assertTrue(((ShardingRule) built.get()).findShardingTable("new_table").isPresent());
+    }
+    
+    @Test
+    void assertBuildIncrementallyWithChangedAlgorithmProperties() {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        ruleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        ruleConfig.getKeyGenerators().put("uuid", new AlgorithmConfiguration("UUID", new Properties()));
+        ShardingRule actual = new ShardingRule(ruleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class));
+        ShardingRuleConfiguration toBeUpdatedRuleConfig = createToBeUpdatedRuleConfiguration(actual);
+        toBeUpdatedRuleConfig.getKeyGenerators().put("uuid", new AlgorithmConfiguration("UUID", PropertiesBuilder.build(new Property("foo", "bar"))));
+        assertFalse(actual.buildIncrementally(toBeUpdatedRuleConfig).isPresent());
+        assertFalse(actual.findShardingTable("new_table").isPresent());
+    }
+    
+    @Test
+    void assertBuildIncrementallyWithChangedDefaultShardingStrategy() {
+        ShardingRule actual = createMinimumShardingRule();
+        ShardingRuleConfiguration toBeUpdatedRuleConfig = createToBeUpdatedRuleConfiguration(actual);
+        toBeUpdatedRuleConfig.setDefaultDatabaseShardingStrategy(new NoneShardingStrategyConfiguration());
+        assertFalse(actual.buildIncrementally(toBeUpdatedRuleConfig).isPresent());
+        assertFalse(actual.findShardingTable("new_table").isPresent());
+    }
+    
+    @Test
+    void assertBuildIncrementallyWithChangedDefaultShardingColumn() {
+        ShardingRule actual = createMinimumShardingRule();
+        ShardingRuleConfiguration toBeUpdatedRuleConfig = createToBeUpdatedRuleConfiguration(actual);
+        toBeUpdatedRuleConfig.setDefaultShardingColumn("user_id");
+        assertFalse(actual.buildIncrementally(toBeUpdatedRuleConfig).isPresent());
+    }
+    
+    @Test
+    void assertBuildIncrementallyWithModifiedExistingShardingTable() {
+        ShardingRule actual = createMinimumShardingRule();
+        ShardingRuleConfiguration toBeUpdatedRuleConfig = createToBeUpdatedRuleConfiguration(actual);
+        toBeUpdatedRuleConfig.getTables().iterator().next().setTableShardingStrategy(new NoneShardingStrategyConfiguration());
+        assertFalse(actual.buildIncrementally(toBeUpdatedRuleConfig).isPresent());
+        assertFalse(actual.findShardingTable("new_table").isPresent());
+    }
+    
+    @Test
+    void assertBuildIncrementallyWithChangedBindingTableGroups() {
+        ShardingRule actual = createMinimumShardingRule();
+        ShardingRuleConfiguration toBeUpdatedRuleConfig = createToBeUpdatedRuleConfiguration(actual);
+        toBeUpdatedRuleConfig.getTables().add(createTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..1}.sub_table_${0..2}"));
+        toBeUpdatedRuleConfig.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("foo", "LOGIC_TABLE,SUB_LOGIC_TABLE"));
+        assertFalse(actual.buildIncrementally(toBeUpdatedRuleConfig).isPresent());
+    }
+    
+    private ShardingRuleConfiguration createToBeUpdatedRuleConfiguration(final ShardingRule shardingRule) {
+        YamlShardingRuleConfigurationSwapper swapper = new YamlShardingRuleConfigurationSwapper();
+        ShardingRuleConfiguration result = swapper.swapToObject(swapper.swapToYamlConfiguration(shardingRule.getConfiguration()));
+        result.getTables().add(new ShardingTableRuleConfiguration("NEW_TABLE", "ds_${0..1}.new_table_${0..2}"));
+        return result;
+    }
+    
     private ShardingRule createMaximumShardingRule() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         ShardingTableRuleConfiguration shardingTableRuleConfig = createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
@@ -556,6 +707,20 @@ class ShardingRuleTest {
         return new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class));
     }
     
+    private ShardingRule createBindingShardingRule(final ShardingStrategyConfiguration tableShardingStrategyConfig) {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration shardingTableRuleConfig = new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
+        shardingTableRuleConfig.setTableShardingStrategy(tableShardingStrategyConfig);
+        ShardingTableRuleConfiguration subTableRuleConfig = new ShardingTableRuleConfiguration("SUB_LOGIC_TABLE", "ds_${0..1}.sub_table_${0..2}");
+        subTableRuleConfig.setTableShardingStrategy(tableShardingStrategyConfig);
+        shardingRuleConfig.getTables().add(shardingTableRuleConfig);
+        shardingRuleConfig.getTables().add(subTableRuleConfig);
+        shardingRuleConfig.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("foo", shardingTableRuleConfig.getLogicTable() + "," + subTableRuleConfig.getLogicTable()));
+        shardingRuleConfig.getShardingAlgorithms().put("core_complex_fixture", new AlgorithmConfiguration("CORE.COMPLEX.FIXTURE", new Properties()));
+        shardingRuleConfig.getShardingAlgorithms().put("core_hint_fixture", new AlgorithmConfiguration("CORE.HINT.FIXTURE", new Properties()));
+        return new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class));
+    }
+    
     private ShardingRule createMinimumShardingRule() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         ShardingTableRuleConfiguration shardingTableRuleConfig = createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
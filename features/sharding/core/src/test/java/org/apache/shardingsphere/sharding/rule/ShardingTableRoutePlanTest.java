@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ShardingTableRoutePlanTest {
+    
+    private final ShardingTableRoutePlan routePlan = new ShardingTableRoutePlan(
+            new ShardingTable(new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"), Arrays.asList("ds_0", "ds_1"), null),
+            new NoneShardingStrategy(), new NoneShardingStrategy());
+    
+    @Test
+    void assertGetDataNodeSize() {
+        assertThat(routePlan.getDataNodeSize(), is(4));
+    }
+    
+    @Test
+    void assertFindDataNodeId() {
+        assertThat(routePlan.findDataNodeId("ds_0", "t_order_0"), is(0));
+        assertThat(routePlan.findDataNodeId("ds_1", "t_order_1"), is(3));
+    }
+    
+    @Test
+    void assertFindDataNodeIdWithCaseInsensitiveNames() {
+        assertThat(routePlan.findDataNodeId("DS_1", "T_ORDER_0"), is(2));
+    }
+    
+    @Test
+    void assertFindDataNodeIdWithUnplannedDataNode() {
+        assertThat(routePlan.findDataNodeId("ds_2", "t_order_0"), is(-1));
+        assertThat(routePlan.findDataNodeId("ds_0", "t_order_2"), is(-1));
+    }
+    
+    @Test
+    void assertGetDataNodes() {
+        BitSet dataNodeIds = new BitSet();
+        dataNodeIds.set(3);
+        dataNodeIds.set(1);
+        List<DataNode> actual = routePlan.getDataNodes(dataNodeIds);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(new DataNode("ds_0", "t_order_1")));
+        assertThat(actual.get(1), is(new DataNode("ds_1", "t_order_1")));
+    }
+}
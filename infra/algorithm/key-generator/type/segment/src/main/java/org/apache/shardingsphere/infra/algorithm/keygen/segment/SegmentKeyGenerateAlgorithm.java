@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Segment key generate algorithm.
+ * 
+ * <p>
+ * Key segments are leased from the persist repository of mode by compute node instance context, keys are generated by increment of current segment.
+ * Next segment is prefetched asynchronously after half of current segment is used, keys are monotonically increasing in one compute node.
+ * Compute node instance context with persist repository is required, keys can not be generated without it.
+ * </p>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
+    
+    private static final String SEGMENT_NAME_KEY = "segment-name";
+    
+    private static final String STEP_KEY = "step";
+    
+    private static final String DEFAULT_SEGMENT_NAME = "default";
+    
+    private static final long DEFAULT_STEP = 10000L;
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-KeySegmentPrefetch-%d").build());
+    
+    private final AtomicReference<ComputeNodeInstanceContext> computeNodeInstanceContext = new AtomicReference<>();
+    
+    private final AtomicReference<KeySegment> currentSegment = new AtomicReference<>(new KeySegment(0L, -1L));
+    
+    private final AtomicReference<Future<KeySegment>> nextSegment = new AtomicReference<>();
+    
+    private String segmentName;
+    
+    private long step;
+    
+    @Override
+    public void init(final Properties props) {
+        segmentName = props.getProperty(SEGMENT_NAME_KEY, DEFAULT_SEGMENT_NAME);
+        ShardingSpherePreconditions.checkState(!segmentName.isEmpty(), () -> new AlgorithmInitializationException(this, "Segment name can not be empty."));
+        step = Long.parseLong(props.getOrDefault(STEP_KEY, DEFAULT_STEP).toString());
+        ShardingSpherePreconditions.checkState(step > 0L, () -> new AlgorithmInitializationException(this, "Illegal step."));
+    }
+    
+    @Override
+    public void setComputeNodeInstanceContext(final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this.computeNodeInstanceContext.set(computeNodeInstanceContext);
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        for (int index = 0; index < keyGenerateCount; index++) {
+            result.add(generateKey());
+        }
+        return result;
+    }
+    
+    private long generateKey() {
+        KeySegment segment = currentSegment.get();
+        long result = segment.getNextKey().getAndIncrement();
+        while (result > segment.getMaxKey()) {
+            switchSegment(segment);
+            segment = currentSegment.get();
+            result = segment.getNextKey().getAndIncrement();
+        }
+        if (result == segment.getPrefetchKey()) {
+            prefetchNextSegment();
+        }
+        return result;
+    }
+    
+    private void prefetchNextSegment() {
+        FutureTask<KeySegment> task = new FutureTask<>(this::allocateSegment);
+        if (nextSegment.compareAndSet(null, task)) {
+            PREFETCH_EXECUTOR.execute(task);
+        }
+    }
+    
+    private synchronized void switchSegment(final KeySegment exhaustedSegment) {
+        if (currentSegment.get() != exhaustedSegment) {
+            return;
+        }
+        Future<KeySegment> prefetchedSegment = nextSegment.getAndSet(null);
+        currentSegment.set(null == prefetchedSegment ? allocateSegment() : getPrefetchedSegment(prefetchedSegment));
+    }
+    
+    private KeySegment getPrefetchedSegment(final Future<KeySegment> prefetchedSegment) {
+        try {
+            return prefetchedSegment.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AlgorithmExecuteException(this, "Interrupted while waiting for key segment `%s`.", segmentName);
+        } catch (final ExecutionException ex) {
+            return allocateSegment();
+        }
+    }
+    
+    private KeySegment allocateSegment() {
+        ComputeNodeInstanceContext context = computeNodeInstanceContext.get();
+        ShardingSpherePreconditions.checkNotNull(context, () -> new AlgorithmExecuteException(this, "Key segment `%s` can not be allocated without compute node instance context.", segmentName));
+        long previousMaxKey = context.allocateKeySegment(segmentName, step);
+        return new KeySegment(previousMaxKey + 1L, previousMaxKey + step);
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+    
+    @Getter
+    private static final class KeySegment {
+        
+        private final AtomicLong nextKey;
+        
+        private final long maxKey;
+        
+        private final long prefetchKey;
+        
+        KeySegment(final long minKey, final long maxKey) {
+            nextKey = new AtomicLong(minKey);
+            this.maxKey = maxKey;
+            prefetchKey = minKey + (maxKey - minKey) / 2L;
+        }
+    }
+}
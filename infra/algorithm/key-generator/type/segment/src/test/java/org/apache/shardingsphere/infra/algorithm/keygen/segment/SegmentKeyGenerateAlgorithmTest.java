@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SegmentKeyGenerateAlgorithmTest {
+    
+    @Test
+    void assertGenerateKeysWithComputeNodeInstanceContext() {
+        ComputeNodeInstanceContext computeNodeInstanceContext = mock(ComputeNodeInstanceContext.class);
+        when(computeNodeInstanceContext.allocateKeySegment("foo_segment", 100L)).thenReturn(0L, 1000L);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT",
+                PropertiesBuilder.build(new Property("segment-name", "foo_segment"), new Property("step", "100")));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 60));
+        assertThat(actual, is(createKeys(1L, 60L)));
+        verify(computeNodeInstanceContext, timeout(1000L).times(2)).allocateKeySegment("foo_segment", 100L);
+        actual = new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 60));
+        List<Comparable<?>> expected = createKeys(61L, 100L);
+        expected.addAll(createKeys(1001L, 1020L));
+        assertThat(actual, is(expected));
+    }
+    
+    private List<Comparable<?>> createKeys(final long firstKey, final long lastKey) {
+        List<Comparable<?>> result = new ArrayList<>((int) (lastKey - firstKey + 1L));
+        for (long each = firstKey; each <= lastKey; each++) {
+            result.add(each);
+        }
+        return result;
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutComputeNodeInstanceContext() {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", new Properties());
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        ComputeNodeInstanceContext computeNodeInstanceContext = mock(ComputeNodeInstanceContext.class);
+        AtomicLong maxKey = new AtomicLong();
+        when(computeNodeInstanceContext.allocateKeySegment("multiple_threads_segment", 10L)).thenAnswer(invocation -> maxKey.getAndAdd(10L));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT",
+                PropertiesBuilder.build(new Property("segment-name", "multiple_threads_segment"), new Property("step", "10")));
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 100)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(threadNumber * 100, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 100));
+    }
+    
+    @Test
+    void assertInitWithIllegalStep() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("step", "0"))));
+    }
+    
+    @Test
+    void assertInitWithEmptySegmentName() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("segment-name", ""))));
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Properties;
@@ -47,6 +48,10 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>
+ * If {@code lock-free} is enabled, keys are generated without lock, sequences of one millisecond are reserved by block with CAS of the packed timestamp and sequence.
+ * </p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
     
@@ -56,6 +61,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY = "max-tolerate-time-difference-milliseconds";
     
+    private static final String LOCK_FREE_KEY = "lock-free";
+    
     private static final long SEQUENCE_BITS = 12L;
     
     private static final long WORKER_ID_BITS = 10L;
@@ -72,6 +79,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final int DEFAULT_WORKER_ID = 0;
     
+    private static final long NONE_TIMESTAMP_SEQUENCE = -1L;
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
@@ -83,12 +92,16 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicLong lastMillis = new AtomicLong();
     
+    private final AtomicLong timestampSequence = new AtomicLong(NONE_TIMESTAMP_SEQUENCE);
+    
     private Properties props;
     
     private int maxVibrationOffset;
     
     private int maxTolerateTimeDifferenceMillis;
     
+    private boolean lockFree;
+    
     static {
         EPOCH = LocalDateTime.of(2016, 11, 1, 0, 0, 0).toInstant(ZoneId.systemDefault().getRules().getOffset(Instant.now())).toEpochMilli();
     }
@@ -98,6 +111,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         this.props = props;
         maxVibrationOffset = getMaxVibrationOffset(props);
         maxTolerateTimeDifferenceMillis = getMaxTolerateTimeDifferenceMillis(props);
+        lockFree = Boolean.parseBoolean(props.getOrDefault(LOCK_FREE_KEY, Boolean.FALSE).toString());
     }
     
     private int getMaxVibrationOffset(final Properties props) {
@@ -122,6 +136,9 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        if (lockFree) {
+            return generateKeysWithoutLock(keyGenerateCount);
+        }
         Collection<Long> result = new LinkedList<>();
         for (int index = 0; index < keyGenerateCount; index++) {
             result.add(generateKey());
@@ -147,16 +164,57 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
     }
     
-    @SneakyThrows(InterruptedException.class)
+    private Collection<Long> generateKeysWithoutLock(final int keyGenerateCount) {
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        while (result.size() < keyGenerateCount) {
+            reserveSequences(keyGenerateCount - result.size(), result);
+        }
+        return result;
+    }
+    
+    private void reserveSequences(final int count, final Collection<Long> keys) {
+        long current = timestampSequence.get();
+        long currentMillis = timeService.getCurrentMillis();
+        long lastTimeMillis = NONE_TIMESTAMP_SEQUENCE == current ? 0L : (current >>> SEQUENCE_BITS) + EPOCH;
+        if (lastTimeMillis > currentMillis) {
+            waitTolerateTimeDifference(lastTimeMillis, currentMillis);
+            return;
+        }
+        long firstSequence;
+        if (lastTimeMillis == currentMillis) {
+            firstSequence = (current & SEQUENCE_MASK) + 1L;
+            if (firstSequence > SEQUENCE_MASK) {
+                waitUntilNextTime(currentMillis);
+                return;
+            }
+        } else {
+            vibrateSequenceOffset();
+            firstSequence = sequenceOffset.get();
+        }
+        long lastSequence = Math.min(firstSequence + count - 1L, SEQUENCE_MASK);
+        if (!timestampSequence.compareAndSet(current, (currentMillis - EPOCH) << SEQUENCE_BITS | lastSequence)) {
+            return;
+        }
+        long keyPrefix = (currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS | (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        for (long each = firstSequence; each <= lastSequence; each++) {
+            keys.add(keyPrefix | each);
+        }
+    }
+    
     private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
         if (lastMillis.get() <= currentMillis) {
             return false;
         }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+        waitTolerateTimeDifference(lastMillis.get(), currentMillis);
+        return true;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitTolerateTimeDifference(final long lastTimeMillis, final long currentMillis) {
+        long timeDifferenceMillis = lastTimeMillis - currentMillis;
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastTimeMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
-        return true;
     }
     
     private long waitUntilNextTime(final long lastTime) {
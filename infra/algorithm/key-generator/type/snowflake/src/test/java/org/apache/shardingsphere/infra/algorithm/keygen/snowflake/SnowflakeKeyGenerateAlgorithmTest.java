@@ -43,6 +43,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -182,6 +183,75 @@ class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    void assertGenerateKeysWithoutLockWithMultipleThreads() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("lock-free", Boolean.TRUE.toString())));
+        int threadNumber = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        List<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            int keyGenerateCount = 0 == i % 2 ? 1 : 100;
+            futures.add(executor.submit(() -> {
+                Collection<Comparable<?>> result = new ArrayList<>(keyGenerateCount * 10);
+                for (int j = 0; j < 10; j++) {
+                    result.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), keyGenerateCount));
+                }
+                return result;
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        int expectedSize = 0;
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            Collection<? extends Comparable<?>> keys = each.get();
+            expectedSize += keys.size();
+            actual.addAll(keys);
+        }
+        executor.shutdown();
+        assertThat(expectedSize, is(threadNumber / 2 * 10 + threadNumber / 2 * 1000));
+        assertThat(actual.size(), is(expectedSize));
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutLockInOneBlock() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(10));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("lock-free", Boolean.TRUE.toString())));
+        if (algorithm instanceof ComputeNodeInstanceContextAware) {
+            ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        }
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5)), is(Arrays.asList(0L, 1L, 2L, 3L, 4L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 2)), is(Arrays.asList(5L, 6L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutLockBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(2));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", PropertiesBuilder.build(new Property("lock-free", Boolean.TRUE.toString())));
+        if (algorithm instanceof ComputeNodeInstanceContextAware) {
+            ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
+        }
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 4100));
+        assertThat(actual.size(), is(4100));
+        assertThat(new HashSet<>(actual).size(), is(4100));
+        assertThat(actual.get(4095), is((1L << DEFAULT_SEQUENCE_BITS) - 1L));
+        assertThat(actual.get(4096), is(4194305L));
+        assertThat(actual.get(4099), is(4194308L));
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutLockWithClockCallBackBeyondTolerateTime() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE",
+                PropertiesBuilder.build(new Property("lock-free", Boolean.TRUE.toString()), new Property("max-tolerate-time-difference-milliseconds", "0")));
+        setTimestampSequence(algorithm, 2L << DEFAULT_SEQUENCE_BITS);
+        assertThrows(AlgorithmExecuteException.class, () -> batchGenerate(algorithm));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setTimestampSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("timestampSequence"), algorithm, new AtomicLong(value.longValue()));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
         Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.aware;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseNameAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.ReplicationLagAwareLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Latency-aware load balance algorithm.
+ * 
+ * <p>
+ * Picks two random targets and routes to the one with lower load score, which is response time EWMA weighted by in-flight requests.
+ * </p>
+ */
+public final class LatencyAwareLoadBalanceAlgorithm implements ReplicationLagAwareLoadBalanceAlgorithm, DatabaseNameAwareLoadBalanceAlgorithm, AutoCloseable {
+    
+    private static final String MAX_REPLICATION_LAG_MILLISECONDS_KEY = "max-replication-lag-milliseconds";
+    
+    @Getter
+    private long maxReplicationLagMillis = -1L;
+    
+    @Setter
+    private String databaseName;
+    
+    private final AtomicBoolean statisticsEnabled = new AtomicBoolean();
+    
+    @Override
+    public void init(final Properties props) {
+        String maxReplicationLagMillis = props.getProperty(MAX_REPLICATION_LAG_MILLISECONDS_KEY);
+        if (null != maxReplicationLagMillis) {
+            try {
+                this.maxReplicationLagMillis = Long.parseLong(maxReplicationLagMillis);
+            } catch (final NumberFormatException ex) {
+                throw new AlgorithmInitializationException(this, "Max replication lag milliseconds `%s` should be number.", maxReplicationLagMillis);
+            }
+        }
+        if (statisticsEnabled.compareAndSet(false, true)) {
+            TargetStatisticsRegistry.enable();
+        }
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String first = availableTargetNames.get(firstIndex);
+        String second = availableTargetNames.get(secondIndex);
+        return TargetStatisticsRegistry.get(databaseName, first).getLoadScore() <= TargetStatisticsRegistry.get(databaseName, second).getLoadScore() ? first : second;
+    }
+    
+    @Override
+    public void close() {
+        if (statisticsEnabled.compareAndSet(true, false)) {
+            TargetStatisticsRegistry.disable();
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.aware;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+
+/**
+ * Latency-aware load balance SQL execution hook.
+ */
+public final class LatencyAwareLoadBalanceSQLExecutionHook implements SQLExecutionHook {
+    
+    private TargetStatistics targetStatistics;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        start(null, dataSourceName, sql, params, connectionProps, isTrunkThread);
+    }
+    
+    @Override
+    public void start(final String databaseName, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        if (!TargetStatisticsRegistry.isEnabled()) {
+            return;
+        }
+        targetStatistics = TargetStatisticsRegistry.get(databaseName, dataSourceName);
+        targetStatistics.requestStarted();
+        startNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (null != targetStatistics) {
+            targetStatistics.requestFinished(System.nanoTime() - startNanos);
+            targetStatistics = null;
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        if (null != targetStatistics) {
+            targetStatistics.requestFailed();
+            targetStatistics = null;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.aware;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Statistics of load balance target.
+ * 
+ * <p>
+ * Response time is tracked by peak EWMA: a slower sample is taken immediately, faster samples are blended in,
+ * and the average decays over idle time so a target which stopped receiving requests is probed again.
+ * Each failed request adds a penalty which decays the same way, so a target failing fast is not preferred for its short response time.
+ * </p>
+ */
+public final class TargetStatistics {
+    
+    private static final double DECAY_TIME_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private static final double FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    
+    private volatile double responseTimeNanos;
+    
+    private volatile long lastUpdateNanos = System.nanoTime();
+    
+    private volatile double failurePenaltyNanos;
+    
+    private volatile long lastFailureNanos = System.nanoTime();
+    
+    /**
+     * Mark request started.
+     */
+    public void requestStarted() {
+        inFlightRequests.incrementAndGet();
+    }
+    
+    /**
+     * Mark request finished.
+     *
+     * @param elapsedNanos elapsed nanoseconds of request, negative if response time should not be sampled
+     */
+    public void requestFinished(final long elapsedNanos) {
+        inFlightRequests.decrementAndGet();
+        if (elapsedNanos >= 0L) {
+            sample(elapsedNanos, System.nanoTime());
+        }
+    }
+    
+    /**
+     * Mark request failed.
+     */
+    public void requestFailed() {
+        inFlightRequests.decrementAndGet();
+        addFailurePenalty(System.nanoTime());
+    }
+    
+    private synchronized void addFailurePenalty(final long nowNanos) {
+        failurePenaltyNanos = getDecayedFailurePenaltyNanos(nowNanos) + FAILURE_PENALTY_NANOS;
+        lastFailureNanos = nowNanos;
+    }
+    
+    private synchronized void sample(final long elapsedNanos, final long nowNanos) {
+        double decayed = getDecayedResponseTimeNanos(nowNanos);
+        responseTimeNanos = elapsedNanos > decayed ? elapsedNanos : decayed + (elapsedNanos - decayed) * (1D - getDecayWeight(nowNanos));
+        lastUpdateNanos = nowNanos;
+    }
+    
+    /**
+     * Get in-flight requests.
+     *
+     * @return in-flight requests
+     */
+    public int getInFlightRequests() {
+        return Math.max(inFlightRequests.get(), 0);
+    }
+    
+    /**
+     * Get load score, lower is better.
+     *
+     * @return load score
+     */
+    public double getLoadScore() {
+        long nowNanos = System.nanoTime();
+        return (getDecayedResponseTimeNanos(nowNanos) + getDecayedFailurePenaltyNanos(nowNanos) + 1D) * (getInFlightRequests() + 1);
+    }
+    
+    private double getDecayedResponseTimeNanos(final long nowNanos) {
+        return responseTimeNanos * getDecayWeight(nowNanos);
+    }
+    
+    private double getDecayedFailurePenaltyNanos(final long nowNanos) {
+        return failurePenaltyNanos * getDecayWeight(nowNanos, lastFailureNanos);
+    }
+    
+    private double getDecayWeight(final long nowNanos) {
+        return getDecayWeight(nowNanos, lastUpdateNanos);
+    }
+    
+    private double getDecayWeight(final long nowNanos, final long lastNanos) {
+        return Math.exp(-Math.max(nowNanos - lastNanos, 0L) / DECAY_TIME_NANOS);
+    }
+}
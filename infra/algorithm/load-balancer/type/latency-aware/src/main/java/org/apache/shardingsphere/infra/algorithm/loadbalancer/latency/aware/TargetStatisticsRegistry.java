@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.aware;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Target statistics registry.
+ * 
+ * <p>
+ * Statistics are keyed by database name and data source name, and only collected after a latency-aware load balance algorithm was initialized.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetStatisticsRegistry {
+    
+    private static final Map<String, TargetStatistics> STATISTICS = new ConcurrentHashMap<>();
+    
+    private static final AtomicInteger ENABLED_COUNT = new AtomicInteger();
+    
+    /**
+     * Enable statistics collection.
+     * 
+     * <p>Each call should be paired with {@link #disable()}, statistics are collected while any caller keeps it enabled.</p>
+     */
+    public static void enable() {
+        ENABLED_COUNT.incrementAndGet();
+    }
+    
+    /**
+     * Disable statistics collection.
+     * 
+     * <p>Collected statistics are cleared once no caller keeps it enabled.</p>
+     */
+    public static void disable() {
+        if (0 == ENABLED_COUNT.decrementAndGet()) {
+            STATISTICS.clear();
+        }
+    }
+    
+    /**
+     * Judge whether statistics collection is enabled.
+     *
+     * @return is enabled or not
+     */
+    public static boolean isEnabled() {
+        return ENABLED_COUNT.get() > 0;
+    }
+    
+    /**
+     * Get target statistics.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return target statistics
+     */
+    public static TargetStatistics get(final String databaseName, final String dataSourceName) {
+        String key = databaseName + "." + dataSourceName;
+        TargetStatistics result = STATISTICS.get(key);
+        return null == result ? STATISTICS.computeIfAbsent(key, unused -> new TargetStatistics()) : result;
+    }
+}
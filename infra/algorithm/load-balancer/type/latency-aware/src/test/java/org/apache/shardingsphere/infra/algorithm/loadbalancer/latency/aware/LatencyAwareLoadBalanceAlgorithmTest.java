@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.aware;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseNameAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.ReplicationLagAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyAwareLoadBalanceAlgorithmTest {
+    
+    private final Collection<LatencyAwareLoadBalanceAlgorithm> loadBalanceAlgorithms = new LinkedList<>();
+    
+    @AfterEach
+    void tearDown() {
+        loadBalanceAlgorithms.forEach(LatencyAwareLoadBalanceAlgorithm::close);
+    }
+    
+    @Test
+    void assertGetSingleAvailableTargetName() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("single_read_ds")), is("single_read_ds"));
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithLessInFlightRequests() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm("foo_db");
+        TargetStatisticsRegistry.get("foo_db", "busy_read_ds").requestStarted();
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("busy_read_ds", "idle_read_ds")), is("idle_read_ds"));
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("idle_read_ds", "busy_read_ds")), is("idle_read_ds"));
+        TargetStatisticsRegistry.get("foo_db", "busy_read_ds").requestFinished(-1L);
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithStatisticsOfOtherDatabase() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm("foo_db");
+        TargetStatisticsRegistry.get("bar_db", "shared_read_ds_0").requestStarted();
+        TargetStatisticsRegistry.get("foo_db", "shared_read_ds_1").requestStarted();
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("shared_read_ds_0", "shared_read_ds_1")), is("shared_read_ds_0"));
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("shared_read_ds_1", "shared_read_ds_0")), is("shared_read_ds_0"));
+        TargetStatisticsRegistry.get("bar_db", "shared_read_ds_0").requestFinished(-1L);
+        TargetStatisticsRegistry.get("foo_db", "shared_read_ds_1").requestFinished(-1L);
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithLowerResponseTime() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm("foo_db");
+        TargetStatisticsRegistry.get("foo_db", "slow_read_ds").requestStarted();
+        TargetStatisticsRegistry.get("foo_db", "slow_read_ds").requestFinished(1000000000L);
+        LatencyAwareLoadBalanceSQLExecutionHook fastHook = new LatencyAwareLoadBalanceSQLExecutionHook();
+        fastHook.start("foo_db", "fast_read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        fastHook.finishSuccess();
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("slow_read_ds", "fast_read_ds")), is("fast_read_ds"));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        createLoadBalanceAlgorithm(new Properties());
+        LatencyAwareLoadBalanceSQLExecutionHook hook = new LatencyAwareLoadBalanceSQLExecutionHook();
+        hook.start("foo_db", "failed_read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertThat(TargetStatisticsRegistry.get("foo_db", "failed_read_ds").getInFlightRequests(), is(1));
+        assertThat(TargetStatisticsRegistry.get("bar_db", "failed_read_ds").getInFlightRequests(), is(0));
+        hook.finishFailure(new RuntimeException(""));
+        assertThat(TargetStatisticsRegistry.get("foo_db", "failed_read_ds").getInFlightRequests(), is(0));
+    }
+    
+    @Test
+    void assertGetAvailableTargetNameWithoutFailingTarget() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm("foo_db");
+        TargetStatisticsRegistry.get("foo_db", "healthy_read_ds").requestStarted();
+        TargetStatisticsRegistry.get("foo_db", "healthy_read_ds").requestFinished(1000000L);
+        LatencyAwareLoadBalanceSQLExecutionHook failedHook = new LatencyAwareLoadBalanceSQLExecutionHook();
+        failedHook.start("foo_db", "failing_read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        failedHook.finishFailure(new RuntimeException(""));
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("failing_read_ds", "healthy_read_ds")), is("healthy_read_ds"));
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("healthy_read_ds", "failing_read_ds")), is("healthy_read_ds"));
+    }
+    
+    @Test
+    void assertGetMaxReplicationLagMillis() {
+        assertThat(((ReplicationLagAwareLoadBalanceAlgorithm) createLoadBalanceAlgorithm(new Properties())).getMaxReplicationLagMillis(), is(-1L));
+        assertThat(((ReplicationLagAwareLoadBalanceAlgorithm) createLoadBalanceAlgorithm(PropertiesBuilder.build(new Property("max-replication-lag-milliseconds", "1000")))).getMaxReplicationLagMillis(), is(1000L));
+    }
+    
+    @Test
+    void assertInitWithInvalidMaxReplicationLagMillis() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", PropertiesBuilder.build(new Property("max-replication-lag-milliseconds", "invalid"))));
+    }
+    
+    @Test
+    void assertClose() {
+        LatencyAwareLoadBalanceAlgorithm loadBalanceAlgorithm = (LatencyAwareLoadBalanceAlgorithm) createLoadBalanceAlgorithm(new Properties());
+        assertTrue(TargetStatisticsRegistry.isEnabled());
+        loadBalanceAlgorithm.close();
+        loadBalanceAlgorithm.close();
+        assertFalse(TargetStatisticsRegistry.isEnabled());
+        LatencyAwareLoadBalanceSQLExecutionHook hook = new LatencyAwareLoadBalanceSQLExecutionHook();
+        hook.start("foo_db", "closed_read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertThat(TargetStatisticsRegistry.get("foo_db", "closed_read_ds").getInFlightRequests(), is(0));
+    }
+    
+    private LoadBalanceAlgorithm createLoadBalanceAlgorithm(final String databaseName) {
+        LoadBalanceAlgorithm result = createLoadBalanceAlgorithm(new Properties());
+        ((DatabaseNameAwareLoadBalanceAlgorithm) result).setDatabaseName(databaseName);
+        return result;
+    }
+    
+    private LoadBalanceAlgorithm createLoadBalanceAlgorithm(final Properties props) {
+        LoadBalanceAlgorithm result = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", props);
+        loadBalanceAlgorithms.add((LatencyAwareLoadBalanceAlgorithm) result);
+        return result;
+    }
+}
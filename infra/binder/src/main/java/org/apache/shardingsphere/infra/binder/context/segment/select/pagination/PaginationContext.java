@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.binder.context.segment.select.pagination;
 
 import lombok.Getter;
+import lombok.Setter;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.NumberLiteralPaginationValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.PaginationValueSegment;
@@ -44,6 +45,9 @@ public final class PaginationContext {
     
     private final Long actualRowCount;
     
+    @Setter
+    private long skippedRowCount;
+    
     public PaginationContext(final PaginationValueSegment offsetSegment, final PaginationValueSegment rowCountSegment, final List<Object> params) {
         hasPagination = null != offsetSegment || null != rowCountSegment;
         this.offsetSegment = offsetSegment;
@@ -93,6 +97,17 @@ public final class PaginationContext {
         return offsetSegment.isBoundOpened() ? actualOffset - 1 : actualOffset;
     }
     
+    /**
+     * Get offset to be skipped by merger.
+     * 
+     * <p>Rows already skipped by storage nodes, such as the rows before seek boundary, are excluded.</p>
+     *
+     * @return offset to be skipped by merger
+     */
+    public long getMergeOffset() {
+        return getActualOffset() - skippedRowCount;
+    }
+    
     /**
      * Get actual row count.
      *
@@ -54,16 +54,38 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether use virtual threads to execute SQL and proxy connection commands, only take effect on JDK 21 or later.
+     */
+    KERNEL_VIRTUAL_THREAD_ENABLED("kernel-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max heap bytes held by memory merged result for each query, rows over it are spilled into local temp files.
+     * Less than or equal to 0 means no limitation.
+     */
+    MAX_MEMORY_MERGE_BYTES_PER_QUERY("max-memory-merge-bytes-per-query", String.valueOf(0), long.class, false),
+    
+    /**
+     * Min offset of paginated query ordered by primary key to be rewritten into seek queries by probing boundary keys of each data node.
+     * Less than or equal to 0 means disabled.
+     */
+    SEEK_PAGINATION_OFFSET_THRESHOLD("seek-pagination-offset-threshold", String.valueOf(0), long.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
     CHECK_TABLE_METADATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Local directory of schema meta data snapshots, which are reused on startup while schema fingerprints of storage units are unchanged.
+     */
+    METADATA_SNAPSHOT_PATH("metadata-snapshot-path", "", String.class, true),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -80,6 +102,32 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Timeout in milliseconds of executing SQL on all routed data sources by ShardingSphere-Proxy.
+     * The default value is 0, which means no timeout.
+     */
+    PROXY_BACKEND_EXECUTION_TIMEOUT_MILLISECONDS("proxy-backend-execution-timeout-milliseconds", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether track session variables retained on pooled backend connections, and only replay the difference when connections are acquired by sessions.
+     */
+    PROXY_BACKEND_SESSION_VARIABLE_TRACKING_ENABLED("proxy-backend-session-variable-tracking-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Logic table names whose query results are cached by ShardingSphere-Proxy, separated by comma.
+     */
+    PROXY_RESULT_CACHE_TABLES("proxy-result-cache-tables", "", String.class, false),
+    
+    /**
+     * Max memory bytes of query results cached by ShardingSphere-Proxy.
+     */
+    PROXY_RESULT_CACHE_MAX_MEMORY_BYTES("proxy-result-cache-max-memory-bytes", String.valueOf(64 * 1024 * 1024), long.class, false),
+    
+    /**
+     * Time to live in milliseconds of query results cached by ShardingSphere-Proxy.
+     */
+    PROXY_RESULT_CACHE_TTL_MILLISECONDS("proxy-result-cache-ttl-milliseconds", String.valueOf(10000), long.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -100,6 +148,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false),
     
+    /**
+     * Proxy frontend write buffer high water mark bytes of each client connection, low water mark is half of it.
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK("proxy-frontend-write-buffer-high-water-mark", String.valueOf(64 * 1024), int.class, true),
+    
     /**
      * CDC server port.
      */
@@ -21,6 +21,9 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocatorNotFoundException;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
@@ -49,6 +52,9 @@ public final class ComputeNodeInstanceContext {
     @Getter(AccessLevel.NONE)
     private final WorkerIdGenerator workerIdGenerator;
     
+    @Getter(AccessLevel.NONE)
+    private final KeySegmentAllocator keySegmentAllocator;
+    
     private final ModeConfiguration modeConfiguration;
     
     @SuppressWarnings("rawtypes")
@@ -58,6 +64,12 @@ public final class ComputeNodeInstanceContext {
     
     private final Collection<ComputeNodeInstance> allClusterInstances = new CopyOnWriteArrayList<>();
     
+    @SuppressWarnings("rawtypes")
+    public ComputeNodeInstanceContext(final ComputeNodeInstance instance, final WorkerIdGenerator workerIdGenerator, final ModeConfiguration modeConfiguration,
+                                      final LockContext lockContext, final EventBusContext eventBusContext) {
+        this(instance, workerIdGenerator, null, modeConfiguration, lockContext, eventBusContext);
+    }
+    
     /**
      * Update instance status.
      *
@@ -136,6 +148,19 @@ public final class ComputeNodeInstanceContext {
         return result;
     }
     
+    /**
+     * Allocate key segment.
+     *
+     * @param segmentName segment name
+     * @param step step of segment
+     * @return previous max key, keys from previous max key (exclusive) to previous max key plus step (inclusive) are allocated
+     * @throws KeySegmentAllocatorNotFoundException key segment allocator not found exception if no persist repository to allocate key segment
+     */
+    public long allocateKeySegment(final String segmentName, final long step) {
+        ShardingSpherePreconditions.checkNotNull(keySegmentAllocator, () -> new KeySegmentAllocatorNotFoundException(segmentName));
+        return keySegmentAllocator.allocate(segmentName, step);
+    }
+    
     /**
      * Add compute node instance.
      * 
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.autogen.version.ShardingSphereVersion;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectSchemaFingerprintLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ConstraintMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlSchemaMetaDataSnapshot;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereSchema;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Schema meta data snapshot loader.
+ * 
+ * <p>
+ * Schema meta data loaded from each storage unit is persisted into local snapshot file together with schema fingerprint of the storage unit.
+ * On next startup, snapshot is reused if fingerprint is unchanged, only storage units whose fingerprints changed or can not be loaded are reloaded.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SchemaMetaDataSnapshotLoader {
+    
+    private static final String SNAPSHOT_FILE_SUFFIX = ".yaml";
+    
+    private final Path snapshotPath;
+    
+    private final YamlTableSwapper tableSwapper = new YamlTableSwapper();
+    
+    /**
+     * Load meta data.
+     *
+     * @param materials meta data loader materials
+     * @return meta data map
+     * @throws SQLException SQL exception
+     */
+    public Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        Map<MetaDataLoaderMaterial, Collection<SchemaMetaData>> result = new LinkedHashMap<>(materials.size(), 1F);
+        Map<MetaDataLoaderMaterial, Optional<SnapshotIdentifier>> toBeLoadedMaterials = new LinkedHashMap<>(materials.size(), 1F);
+        for (MetaDataLoaderMaterial each : materials) {
+            Optional<SnapshotIdentifier> snapshotIdentifier = loadSnapshotIdentifier(each);
+            Optional<Collection<SchemaMetaData>> snapshot = snapshotIdentifier.flatMap(this::loadSnapshot);
+            result.put(each, snapshot.orElse(null));
+            if (!snapshot.isPresent()) {
+                toBeLoadedMaterials.put(each, snapshotIdentifier);
+            }
+        }
+        if (!toBeLoadedMaterials.isEmpty()) {
+            for (Entry<MetaDataLoaderMaterial, Collection<SchemaMetaData>> entry : MetaDataLoader.loadByMaterials(toBeLoadedMaterials.keySet()).entrySet()) {
+                result.put(entry.getKey(), entry.getValue());
+                toBeLoadedMaterials.get(entry.getKey()).ifPresent(optional -> persistSnapshot(optional, entry.getValue()));
+            }
+        }
+        log.info("Reused schema meta data snapshots of {} storage units, reloaded {} storage units.", materials.size() - toBeLoadedMaterials.size(), toBeLoadedMaterials.size());
+        result.values().removeIf(Objects::isNull);
+        return MetaDataLoader.merge(result.values());
+    }
+    
+    private Optional<SnapshotIdentifier> loadSnapshotIdentifier(final MetaDataLoaderMaterial material) {
+        Optional<DialectSchemaFingerprintLoader> fingerprintLoader = DatabaseTypedSPILoader.findService(DialectSchemaFingerprintLoader.class, material.getStorageType());
+        if (!fingerprintLoader.isPresent()) {
+            return Optional.empty();
+        }
+        try (Connection connection = material.getDataSource().getConnection()) {
+            DatabaseMetaData databaseMetaData = connection.getMetaData();
+            String storageUnitKey = String.join("|", material.getStorageType().getType(), databaseMetaData.getURL(), databaseMetaData.getUserName(),
+                    material.getDefaultSchemaName(), String.join(",", new TreeSet<>(material.getActualTableNames())));
+            return Optional.of(new SnapshotIdentifier(digest(storageUnitKey) + SNAPSHOT_FILE_SUFFIX, fingerprintLoader.get().load(connection)));
+        } catch (final SQLException ex) {
+            log.warn("Load schema fingerprint failed, schema meta data will be reloaded from storage unit.", ex);
+            return Optional.empty();
+        }
+    }
+    
+    private String digest(final String value) {
+        try {
+            StringBuilder result = new StringBuilder();
+            for (byte each : MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8))) {
+                result.append(String.format("%02x", each & 0xff));
+            }
+            return result.toString();
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+    
+    private Optional<Collection<SchemaMetaData>> loadSnapshot(final SnapshotIdentifier snapshotIdentifier) {
+        Path snapshotFile = snapshotPath.resolve(snapshotIdentifier.fileName);
+        if (!Files.isRegularFile(snapshotFile)) {
+            return Optional.empty();
+        }
+        try {
+            YamlSchemaMetaDataSnapshot snapshot = YamlEngine.unmarshal(snapshotFile.toFile(), YamlSchemaMetaDataSnapshot.class);
+            return null != snapshot && ShardingSphereVersion.VERSION.equals(snapshot.getVersion()) && snapshotIdentifier.fingerprint.equals(snapshot.getFingerprint())
+                    ? Optional.of(swapToSchemaMetaData(snapshot))
+                    : Optional.empty();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Load schema meta data snapshot `{}` failed, schema meta data will be reloaded from storage unit.", snapshotFile, ex);
+            return Optional.empty();
+        }
+    }
+    
+    private void persistSnapshot(final SnapshotIdentifier snapshotIdentifier, final Collection<SchemaMetaData> schemaMetaDataList) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(snapshotPath);
+            tempFile = Files.createTempFile(snapshotPath, snapshotIdentifier.fileName, ".tmp");
+            Files.write(tempFile, YamlEngine.marshal(swapToYamlSnapshot(snapshotIdentifier, schemaMetaDataList)).getBytes(StandardCharsets.UTF_8));
+            Files.move(tempFile, snapshotPath.resolve(snapshotIdentifier.fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            log.warn("Persist schema meta data snapshot `{}` failed.", snapshotIdentifier.fileName, ex);
+            deleteQuietly(tempFile);
+        }
+    }
+    
+    private void deleteQuietly(final Path file) {
+        if (null == file) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ex) {
+            log.debug("Delete temp file `{}` failed.", file, ex);
+        }
+    }
+    
+    private YamlSchemaMetaDataSnapshot swapToYamlSnapshot(final SnapshotIdentifier snapshotIdentifier, final Collection<SchemaMetaData> schemaMetaDataList) {
+        YamlSchemaMetaDataSnapshot result = new YamlSchemaMetaDataSnapshot();
+        result.setVersion(ShardingSphereVersion.VERSION);
+        result.setFingerprint(snapshotIdentifier.fingerprint);
+        Map<String, YamlShardingSphereSchema> schemas = new LinkedHashMap<>(schemaMetaDataList.size(), 1F);
+        for (SchemaMetaData each : schemaMetaDataList) {
+            YamlShardingSphereSchema schema = new YamlShardingSphereSchema();
+            Map<String, YamlShardingSphereTable> tables = new LinkedHashMap<>(each.getTables().size(), 1F);
+            GenericSchemaBuilder.convertToTableMap(each.getTables()).forEach((key, value) -> tables.put(key, tableSwapper.swapToYamlConfiguration(value)));
+            schema.setTables(tables);
+            schemas.put(each.getName(), schema);
+        }
+        result.setSchemas(schemas);
+        return result;
+    }
+    
+    private Collection<SchemaMetaData> swapToSchemaMetaData(final YamlSchemaMetaDataSnapshot snapshot) {
+        Collection<SchemaMetaData> result = new LinkedList<>();
+        if (null == snapshot.getSchemas()) {
+            return result;
+        }
+        for (Entry<String, YamlShardingSphereSchema> entry : snapshot.getSchemas().entrySet()) {
+            Collection<TableMetaData> tables = new LinkedList<>();
+            if (null != entry.getValue().getTables()) {
+                entry.getValue().getTables().values().forEach(each -> tables.add(swapToTableMetaData(tableSwapper.swapToObject(each))));
+            }
+            result.add(new SchemaMetaData(entry.getKey(), tables));
+        }
+        return result;
+    }
+    
+    private TableMetaData swapToTableMetaData(final ShardingSphereTable table) {
+        Collection<ColumnMetaData> columns = new LinkedList<>();
+        for (ShardingSphereColumn each : table.getColumnValues()) {
+            columns.add(new ColumnMetaData(each.getName(), each.getDataType(), each.isPrimaryKey(), each.isGenerated(), each.isCaseSensitive(), each.isVisible(), each.isUnsigned(),
+                    each.isNullable()));
+        }
+        Collection<IndexMetaData> indexes = new LinkedList<>();
+        for (ShardingSphereIndex each : table.getIndexValues()) {
+            IndexMetaData index = new IndexMetaData(each.getName());
+            index.getColumns().addAll(each.getColumns());
+            index.setUnique(each.isUnique());
+            indexes.add(index);
+        }
+        Collection<ConstraintMetaData> constraints = new LinkedList<>();
+        for (ShardingSphereConstraint each : table.getConstraintValues()) {
+            constraints.add(new ConstraintMetaData(each.getName(), each.getReferencedTableName()));
+        }
+        return new TableMetaData(table.getName(), columns, indexes, constraints, table.getType());
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SnapshotIdentifier {
+        
+        private final String fileName;
+        
+        private final String fingerprint;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.statistics;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere table data.
@@ -36,4 +38,24 @@ public final class ShardingSphereTableData {
     private final String name;
     
     private final Collection<ShardingSphereRowData> rows = new TreeSet<>(Comparator.comparing(ShardingSphereRowData::getUniqueKey));
+    
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private final AtomicLong version = new AtomicLong();
+    
+    /**
+     * Get version of rows.
+     *
+     * @return version of rows
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Increase version after rows refreshed.
+     */
+    public void increaseVersion() {
+        version.incrementAndGet();
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rule.attribute.table;
+
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttribute;
+
+import java.util.List;
+
+/**
+ * Table push down rule attribute.
+ */
+public interface TablePushDownRuleAttribute extends RuleAttribute {
+    
+    /**
+     * Judge whether aggregations, sorts and limits on table can be executed by each data node and merged by the rule.
+     *
+     * @param tableName table name
+     * @return can be merged or not
+     */
+    boolean isMergeable(String tableName);
+    
+    /**
+     * Judge whether equi-join of two tables only matches rows located in the same data node.
+     *
+     * @param leftTableName left table name
+     * @param leftColumnNames left join column names
+     * @param rightTableName right table name
+     * @param rightColumnNames right join column names, column at the same index of left join column names is its equal column
+     * @return co-located or not
+     */
+    boolean isColocated(String leftTableName, List<String> leftColumnNames, String rightTableName, List<String> rightColumnNames);
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.instance;
 
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocatorNotFoundException;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
 import org.apache.shardingsphere.infra.lock.LockContext;
@@ -33,6 +35,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -76,6 +79,22 @@ class ComputeNodeInstanceContextTest {
         assertThat(context.generateWorkerId(new Properties()), is(0));
     }
     
+    @Test
+    void assertAllocateKeySegment() {
+        KeySegmentAllocator keySegmentAllocator = mock(KeySegmentAllocator.class);
+        when(keySegmentAllocator.allocate("foo_segment", 100L)).thenReturn(200L);
+        ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(
+                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), keySegmentAllocator, modeConfig, lockContext, eventBusContext);
+        assertThat(context.allocateKeySegment("foo_segment", 100L), is(200L));
+    }
+    
+    @Test
+    void assertAllocateKeySegmentWithoutAllocator() {
+        ComputeNodeInstanceContext context = new ComputeNodeInstanceContext(
+                new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(WorkerIdGenerator.class), modeConfig, lockContext, eventBusContext);
+        assertThrows(KeySegmentAllocatorNotFoundException.class, () -> context.allocateKeySegment("foo_segment", 100L));
+    }
+    
     @Test
     void assertUpdateLabel() {
         InstanceMetaData instanceMetaData = mock(InstanceMetaData.class);
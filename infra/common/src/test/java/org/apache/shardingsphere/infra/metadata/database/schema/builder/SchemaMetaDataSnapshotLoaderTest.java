@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectSchemaFingerprintLoader;
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.MetaDataLoaderMaterial;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.IndexMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.database.core.metadata.data.model.TableMetaData;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.fixture.DialectMetaDataLoaderFixture;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(DatabaseTypedSPILoader.class)
+class SchemaMetaDataSnapshotLoaderTest {
+    
+    @TempDir
+    private Path snapshotPath;
+    
+    private final DialectSchemaFingerprintLoader fingerprintLoader = mock(DialectSchemaFingerprintLoader.class);
+    
+    private MetaDataLoaderMaterial material;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getMetaData().getURL()).thenReturn("jdbc:mock://127.0.0.1/foo_ds");
+        when(dataSource.getConnection().getMetaData().getUserName()).thenReturn("root");
+        material = new MetaDataLoaderMaterial(Collections.singletonList("t_order"), dataSource, databaseType, "foo_schema");
+        when(DatabaseTypedSPILoader.findService(DialectSchemaFingerprintLoader.class, databaseType)).thenReturn(Optional.of(fingerprintLoader));
+    }
+    
+    @Test
+    void assertLoadWithUnchangedFingerprint() throws SQLException {
+        when(fingerprintLoader.load(any())).thenReturn("foo_fingerprint");
+        Collection<TableMetaData> expected = createTables("order_id", "user_id");
+        mockLoadedTables(expected);
+        assertTables(new SchemaMetaDataSnapshotLoader(snapshotPath).load(Collections.singletonList(material)), expected);
+        mockLoadedTables(createTables("order_id"));
+        assertTables(new SchemaMetaDataSnapshotLoader(snapshotPath).load(Collections.singletonList(material)), expected);
+    }
+    
+    @Test
+    void assertLoadWithChangedFingerprint() throws SQLException {
+        when(fingerprintLoader.load(any())).thenReturn("foo_fingerprint", "bar_fingerprint");
+        mockLoadedTables(createTables("order_id", "user_id"));
+        new SchemaMetaDataSnapshotLoader(snapshotPath).load(Collections.singletonList(material));
+        Collection<TableMetaData> expected = createTables("order_id");
+        mockLoadedTables(expected);
+        assertTables(new SchemaMetaDataSnapshotLoader(snapshotPath).load(Collections.singletonList(material)), expected);
+    }
+    
+    @Test
+    void assertLoadWithFingerprintFailure() throws SQLException {
+        when(fingerprintLoader.load(any())).thenThrow(SQLException.class);
+        Collection<TableMetaData> expected = createTables("order_id");
+        mockLoadedTables(expected);
+        assertTables(new SchemaMetaDataSnapshotLoader(snapshotPath).load(Collections.singletonList(material)), expected);
+        assertThat(snapshotPath.toFile().list().length, is(0));
+    }
+    
+    private Collection<TableMetaData> createTables(final String... columnNames) {
+        IndexMetaData indexMetaData = new IndexMetaData("idx_order_id");
+        indexMetaData.getColumns().add("order_id");
+        indexMetaData.setUnique(true);
+        ColumnMetaData[] columns = new ColumnMetaData[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            columns[i] = new ColumnMetaData(columnNames[i], Types.INTEGER, 0 == i, false, false, true, false, 0 != i);
+        }
+        return Collections.singletonList(new TableMetaData("t_order", Arrays.asList(columns), Collections.singletonList(indexMetaData), Collections.emptyList()));
+    }
+    
+    private void mockLoadedTables(final Collection<TableMetaData> tables) {
+        DialectMetaDataLoaderFixture.setTables(tables);
+    }
+    
+    private void assertTables(final Map<String, SchemaMetaData> actual, final Collection<TableMetaData> expected) {
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("foo_schema").getTables(), is(expected));
+    }
+}
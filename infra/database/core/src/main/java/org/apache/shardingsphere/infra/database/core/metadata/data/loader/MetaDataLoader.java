@@ -32,6 +32,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -58,14 +59,25 @@ public final class MetaDataLoader {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
-        Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
-        Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
+        return merge(loadByMaterials(materials).values());
+    }
+    
+    /**
+     * Load meta data of each material.
+     *
+     * @param materials meta data loader materials
+     * @return schema meta data collection map, key is material
+     * @throws SQLException SQL exception
+     */
+    public static Map<MetaDataLoaderMaterial, Collection<SchemaMetaData>> loadByMaterials(final Collection<MetaDataLoaderMaterial> materials) throws SQLException {
+        Map<MetaDataLoaderMaterial, Future<Collection<SchemaMetaData>>> futures = new LinkedHashMap<>(materials.size(), 1F);
         for (MetaDataLoaderMaterial each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+            futures.put(each, EXECUTOR_SERVICE.submit(() -> load(each)));
         }
+        Map<MetaDataLoaderMaterial, Collection<SchemaMetaData>> result = new LinkedHashMap<>(materials.size(), 1F);
         try {
-            for (Future<Collection<SchemaMetaData>> each : futures) {
-                merge(result, each.get());
+            for (Entry<MetaDataLoaderMaterial, Future<Collection<SchemaMetaData>>> entry : futures.entrySet()) {
+                result.put(entry.getKey(), entry.getValue().get());
             }
         } catch (final InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -78,6 +90,20 @@ public final class MetaDataLoader {
         return result;
     }
     
+    /**
+     * Merge schema meta data by schema name.
+     *
+     * @param schemaMetaDataList schema meta data list
+     * @return meta data map
+     */
+    public static Map<String, SchemaMetaData> merge(final Collection<Collection<SchemaMetaData>> schemaMetaDataList) {
+        Map<String, SchemaMetaData> result = new LinkedHashMap<>(schemaMetaDataList.size(), 1F);
+        for (Collection<SchemaMetaData> each : schemaMetaDataList) {
+            merge(result, each);
+        }
+        return result;
+    }
+    
     private static Collection<SchemaMetaData> load(final MetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectMetaDataLoader> dialectLoader = DatabaseTypedSPILoader.findService(DialectMetaDataLoader.class, material.getStorageType());
         if (dialectLoader.isPresent()) {
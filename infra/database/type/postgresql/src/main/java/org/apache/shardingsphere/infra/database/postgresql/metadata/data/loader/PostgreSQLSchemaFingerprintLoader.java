@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.database.postgresql.metadata.data.loader;
+
+import org.apache.shardingsphere.infra.database.core.metadata.data.loader.DialectSchemaFingerprintLoader;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Schema fingerprint loader for PostgreSQL.
+ */
+public final class PostgreSQLSchemaFingerprintLoader implements DialectSchemaFingerprintLoader {
+    
+    private static final String USER_SCHEMA_CONDITION = " NOT IN ('pg_catalog', 'information_schema')";
+    
+    private static final String FINGERPRINT_SQL = "SELECT "
+            + "(SELECT COUNT(*) || ':' || COALESCE(md5(string_agg(concat_ws('|', table_schema, table_name, table_type), ',' ORDER BY table_schema, table_name)), '') "
+            + "FROM information_schema.tables WHERE table_schema" + USER_SCHEMA_CONDITION + "), "
+            + "(SELECT COUNT(*) || ':' || COALESCE(md5(string_agg(concat_ws('|', table_schema, table_name, column_name, ordinal_position, data_type, udt_name, column_default, is_nullable), ',' "
+            + "ORDER BY table_schema, table_name, ordinal_position)), '') FROM information_schema.columns WHERE table_schema" + USER_SCHEMA_CONDITION + "), "
+            + "(SELECT COUNT(*) || ':' || COALESCE(md5(string_agg(concat_ws('|', schemaname, tablename, indexname, indexdef), ',' ORDER BY schemaname, tablename, indexname)), '') "
+            + "FROM pg_indexes WHERE schemaname" + USER_SCHEMA_CONDITION + "), "
+            + "(SELECT COUNT(*) || ':' || COALESCE(md5(string_agg(concat_ws('|', table_schema, table_name, constraint_name, constraint_type), ',' "
+            + "ORDER BY table_schema, table_name, constraint_name)), '') FROM information_schema.table_constraints WHERE table_schema" + USER_SCHEMA_CONDITION + ")";
+    
+    @Override
+    public String load(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(FINGERPRINT_SQL)) {
+            resultSet.next();
+            return String.join("/", resultSet.getString(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4));
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
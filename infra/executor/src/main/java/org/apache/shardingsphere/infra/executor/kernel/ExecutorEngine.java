@@ -20,19 +20,26 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Executor engine.
@@ -43,8 +50,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -54,7 +61,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false);
+    }
+    
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * @param executorSize executor size
+     * @param virtualThreadEnabled whether use virtual threads if supported by current JVM
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -78,6 +96,132 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
+    /**
+     * Execute with deadline.
+     *
+     * <p>Execution groups are run in parallel unless serial is required. The first execution group is run in caller thread as trunk thread,
+     * so it is checked against deadline after it is finished. Pending execution groups will be cancelled
+     * if any execution group fails or if they are not finished before deadline.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param timeoutMillis timeout milliseconds of whole execution, zero or negative means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> List<O> execute(final ExecutionGroupContext<I> executionGroupContext,
+                                  final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial, final long timeoutMillis) throws SQLException {
+        if (serial || timeoutMillis <= 0L) {
+            return execute(executionGroupContext, firstCallback, callback, serial);
+        }
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return Collections.emptyList();
+        }
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        List<CompletableFuture<Collection<O>>> futures = new ArrayList<>(executionGroupContext.getInputGroups().size() - 1);
+        while (executionGroups.hasNext()) {
+            futures.add(completableExecute(executionGroups.next(), processId, callback));
+        }
+        List<O> result;
+        try {
+            result = new LinkedList<>(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback));
+        } catch (final SQLException | RuntimeException ex) {
+            cancel(futures);
+            throw ex;
+        }
+        CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        for (CompletableFuture<Collection<O>> each : futures) {
+            each.whenComplete((unused, throwable) -> {
+                if (null != throwable) {
+                    allFutures.completeExceptionally(throwable);
+                }
+            });
+        }
+        try {
+            allFutures.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException ex) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException();
+        } catch (final TimeoutException ex) {
+            cancel(futures);
+            throw new SQLExecutionTimeoutException(timeoutMillis);
+        } catch (final ExecutionException ex) {
+            cancel(futures);
+            throwException(ex);
+        }
+        if (System.nanoTime() - deadlineNanos > 0L) {
+            throw new SQLExecutionTimeoutException(timeoutMillis);
+        }
+        for (CompletableFuture<Collection<O>> each : futures) {
+            result.addAll(each.join());
+        }
+        return result;
+    }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * <p>All execution groups, including the first one, are executed in executor threads,
+     * so callers can consume results of each execution group as soon as it is completed and never block on any of them.
+     * None of them is executed as trunk thread, because trunk thread is the caller thread.
+     * Cancelling a returned future interrupts the execution of its execution group.
+     * Futures complete exceptionally with {@link CompletionException} which wraps the cause thrown by callback.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return completable futures of execution groups, ordered by execution groups
+     */
+    public <I, O> List<CompletableFuture<Collection<O>>> asyncExecute(final ExecutionGroupContext<I> executionGroupContext,
+                                                                      final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return Collections.emptyList();
+        }
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        List<CompletableFuture<Collection<O>>> result = new ArrayList<>(executionGroupContext.getInputGroups().size());
+        result.add(completableExecute(executionGroups.next(), processId, null == firstCallback ? callback : firstCallback));
+        while (executionGroups.hasNext()) {
+            result.add(completableExecute(executionGroups.next(), processId, callback));
+        }
+        return result;
+    }
+    
+    private <I, O> CompletableFuture<Collection<O>> completableExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
+        CompletableFuture<Collection<O>> result = new CompletableFuture<>();
+        Future<?> future = executorServiceManager.getExecutorService().submit(() -> {
+            try {
+                result.complete(callback.execute(executionGroup.getInputs(), false, processId));
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                result.completeExceptionally(new CompletionException(ex));
+            }
+        });
+        result.whenComplete((unused, throwable) -> {
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        return result;
+    }
+    
+    private <O> void cancel(final Collection<CompletableFuture<Collection<O>>> futures) {
+        for (CompletableFuture<Collection<O>> each : futures) {
+            each.cancel(true);
+        }
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
@@ -126,8 +270,9 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <O> List<O> throwException(final Exception exception) throws SQLException {
-        if (exception.getCause() instanceof SQLException) {
-            throw (SQLException) exception.getCause();
+        Throwable cause = exception.getCause() instanceof CompletionException && null != exception.getCause().getCause() ? exception.getCause().getCause() : exception.getCause();
+        if (cause instanceof SQLException) {
+            throw (SQLException) cause;
         }
         throw new UnknownSQLException(exception);
     }
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.SneakyThrows;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -27,6 +29,8 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Executor service manager.
+ * 
+ * <p>With virtual threads every task runs on a new virtual thread, and executor size bounds the concurrency instead of the count of pooled threads.</p>
  */
 @Getter
 public final class ExecutorServiceManager {
@@ -35,6 +39,8 @@ public final class ExecutorServiceManager {
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = loadNewThreadPerTaskExecutorMethod();
+    
     private final ExecutorService executorService;
     
     public ExecutorServiceManager(final int executorSize) {
@@ -42,14 +48,42 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, virtualThreadEnabled));
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
-        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat, virtualThreadEnabled);
+        if (virtualThreadEnabled && null != NEW_THREAD_PER_TASK_EXECUTOR_METHOD) {
+            ExecutorService result = newThreadPerTaskExecutor(threadFactory);
+            return 0 == executorSize ? result : new BoundedExecutorService(result, executorSize);
+        }
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    private ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+    }
+    
+    private static Method loadNewThreadPerTaskExecutorMethod() {
+        if (!ExecutorThreadFactoryBuilder.isVirtualThreadSupported()) {
+            return null;
+        }
+        try {
+            return Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -18,8 +18,10 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
@@ -62,11 +64,47 @@ public final class JDBCExecutor {
      */
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        return execute(executionGroupContext, firstCallback, callback, 0L);
+    }
+    
+    /**
+     * Execute with deadline.
+     *
+     * <p>Statements of all execution units are cancelled if execution is not finished before deadline.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param timeoutMillis timeout milliseconds of whole execution, zero or negative means no timeout
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                               final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback, final long timeoutMillis) throws SQLException {
         try {
-            return executorEngine.execute(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInDistributedTransaction());
+            boolean serial = connectionContext.getTransactionContext().isInDistributedTransaction();
+            return timeoutMillis > 0L
+                    ? executorEngine.execute(executionGroupContext, firstCallback, callback, serial, timeoutMillis)
+                    : executorEngine.execute(executionGroupContext, firstCallback, callback, serial);
+        } catch (final SQLExecutionTimeoutException ex) {
+            cancelStatements(executionGroupContext);
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
         }
     }
+    
+    private void cancelStatements(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        for (ExecutionGroup<JDBCExecutionUnit> eachGroup : executionGroupContext.getInputGroups()) {
+            for (JDBCExecutionUnit each : eachGroup.getInputs()) {
+                try {
+                    each.getStorageResource().cancel();
+                } catch (final SQLException ignored) {
+                }
+            }
+        }
+    }
 }
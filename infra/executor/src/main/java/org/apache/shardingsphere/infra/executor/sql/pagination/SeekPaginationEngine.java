@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.pagination;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.ParameterMarkerPaginationValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.PaginationValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Seek pagination engine.
+ * 
+ * <p>
+ * Deep {@code LIMIT offset, count} queries routed to several execution units normally ask every unit for {@code offset + count} rows.
+ * When the query is ordered by a single numeric primary key, every unit is probed for the key at {@code offset / units} first,
+ * the smallest boundary key and the count of rows before it are used to seek, then every unit only returns the rows from the boundary key.
+ * The seek query projects the column labels of the probed rows explicitly, queries whose column labels are not unique are not rewritten.
+ * </p>
+ * 
+ * <p>
+ * The probe, count and seek queries are separate statements and do not read one consistent snapshot.
+ * Rows inserted or deleted before the boundary key between these statements shift the page, so rows may be skipped or returned twice,
+ * unless all statements run in one transaction with repeatable read or stricter isolation.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SeekPaginationEngine {
+    
+    private static final String DERIVED_TABLE_ALIAS = "seek_pagination";
+    
+    private final long offsetThreshold;
+    
+    private final ShardingSphereDatabase database;
+    
+    /**
+     * Rewrite execution context to seek pagination if possible.
+     *
+     * @param executionContext execution context
+     * @param probeExecutor probe executor
+     * @return rewritten execution context, or the original execution context if seek pagination is not available
+     * @throws SQLException SQL exception
+     */
+    public ExecutionContext rewrite(final ExecutionContext executionContext, final SeekPaginationProbeExecutor probeExecutor) throws SQLException {
+        if (!isAvailable(executionContext)) {
+            return executionContext;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) executionContext.getSqlStatementContext();
+        Optional<Map<ExecutionUnit, SQLUnit>> unlimitedSQLUnits = createUnlimitedSQLUnits(executionContext, selectStatementContext);
+        if (!unlimitedSQLUnits.isPresent()) {
+            return executionContext;
+        }
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        long boundaryOffset = paginationContext.getActualOffset() / executionContext.getExecutionUnits().size();
+        List<QueryResult> boundaryResults = probeExecutor.execute(createExecutionContext(executionContext, unlimitedSQLUnits.get(), each -> each + " LIMIT 1 OFFSET " + boundaryOffset));
+        OrderByItem orderByItem = selectStatementContext.getOrderByContext().getItems().iterator().next();
+        boolean ascending = OrderDirection.ASC == orderByItem.getSegment().getOrderDirection();
+        Optional<BigDecimal> boundary = findBoundary(boundaryResults, selectStatementContext, orderByItem, ascending);
+        if (!boundary.isPresent()) {
+            return executionContext;
+        }
+        QuoteCharacter quoteCharacter = new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDialectDatabaseMetaData().getQuoteCharacter();
+        Optional<String> projections = findUniqueProjections(boundaryResults.get(0), quoteCharacter);
+        if (!projections.isPresent()) {
+            return executionContext;
+        }
+        String column = DERIVED_TABLE_ALIAS + "." + quoteCharacter.wrap(SQLUtils.getExactlyValue(boundaryResults.get(0).getMetaData().getColumnLabel(orderByItem.getIndex())));
+        String boundaryValue = boundary.get().toPlainString();
+        List<QueryResult> countResults = probeExecutor.execute(createExecutionContext(executionContext, unlimitedSQLUnits.get(),
+                each -> String.format("SELECT COUNT(*) FROM (%s) %s WHERE %s %s %s", each, DERIVED_TABLE_ALIAS, column, ascending ? "<" : ">", boundaryValue)));
+        long skippedRowCount = sumCount(countResults);
+        long seekRowCount = paginationContext.getActualOffset() - skippedRowCount + paginationContext.getActualRowCount().orElse(0L);
+        paginationContext.setSkippedRowCount(skippedRowCount);
+        return createExecutionContext(executionContext, unlimitedSQLUnits.get(), each -> String.format("SELECT %s FROM (%s) %s WHERE %s %s %s ORDER BY %s %s LIMIT %s",
+                projections.get(), each, DERIVED_TABLE_ALIAS, column, ascending ? ">=" : "<=", boundaryValue, column, orderByItem.getSegment().getOrderDirection().name(), seekRowCount));
+    }
+    
+    private boolean isAvailable(final ExecutionContext executionContext) {
+        if (offsetThreshold <= 0L || executionContext.getExecutionUnits().size() < 2 || !(executionContext.getSqlStatementContext() instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) executionContext.getSqlStatementContext();
+        return isSimpleQuery(selectStatementContext) && isDeepPagination(selectStatementContext.getPaginationContext())
+                && isTrailingLimit(selectStatementContext, executionContext.getQueryContext().getSql()) && isOrderByPrimaryKey(selectStatementContext);
+    }
+    
+    private boolean isSimpleQuery(final SelectStatementContext selectStatementContext) {
+        return !selectStatementContext.isContainsSubquery() && !selectStatementContext.isContainsJoinQuery() && !selectStatementContext.isContainsCombine()
+                && !selectStatementContext.isContainsHaving() && selectStatementContext.getGroupByContext().getItems().isEmpty()
+                && selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty() && !selectStatementContext.getProjectionsContext().isDistinctRow()
+                && !SelectStatementHandler.getLockSegment(selectStatementContext.getSqlStatement()).isPresent()
+                && !SelectStatementHandler.getWindowSegment(selectStatementContext.getSqlStatement()).isPresent();
+    }
+    
+    private boolean isDeepPagination(final PaginationContext paginationContext) {
+        return paginationContext.isHasPagination() && paginationContext.getRowCountSegment().map(LimitValueSegment.class::isInstance).orElse(false)
+                && paginationContext.getActualRowCount().isPresent() && paginationContext.getActualOffset() >= offsetThreshold;
+    }
+    
+    private boolean isTrailingLimit(final SelectStatementContext selectStatementContext, final String sql) {
+        Optional<LimitSegment> limitSegment = SelectStatementHandler.getLimitSegment(selectStatementContext.getSqlStatement());
+        if (!limitSegment.isPresent() || null == sql || sql.length() <= limitSegment.get().getStopIndex()) {
+            return false;
+        }
+        String tail = sql.substring(limitSegment.get().getStopIndex() + 1).trim();
+        return tail.isEmpty() || ";".equals(tail);
+    }
+    
+    private boolean isOrderByPrimaryKey(final SelectStatementContext selectStatementContext) {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        if (1 != orderByItems.size() || selectStatementContext.getOrderByContext().isGenerated() || 1 != selectStatementContext.getTablesContext().getTableNames().size()) {
+            return false;
+        }
+        if (!(orderByItems.iterator().next().getSegment() instanceof ColumnOrderByItemSegment)) {
+            return false;
+        }
+        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        String tableName = selectStatementContext.getTablesContext().getTableNames().iterator().next();
+        if (null == schema || !schema.containsTable(tableName)) {
+            return false;
+        }
+        ShardingSphereTable table = schema.getTable(tableName);
+        String columnName = ((ColumnOrderByItemSegment) orderByItems.iterator().next().getSegment()).getColumn().getIdentifier().getValue();
+        return 1 == table.getPrimaryKeyColumns().size() && table.getPrimaryKeyColumns().get(0).equalsIgnoreCase(columnName);
+    }
+    
+    private Optional<Map<ExecutionUnit, SQLUnit>> createUnlimitedSQLUnits(final ExecutionContext executionContext, final SelectStatementContext selectStatementContext) {
+        String sql = executionContext.getQueryContext().getSql();
+        String limitClause = sql.substring(SelectStatementHandler.getLimitSegment(selectStatementContext.getSqlStatement()).map(LimitSegment::getStartIndex).orElse(0)).trim();
+        String limitKeyword = limitClause.split("\\s+", 2)[0].toUpperCase();
+        int limitParameterCount = getLimitParameterCount(selectStatementContext.getPaginationContext());
+        Map<ExecutionUnit, SQLUnit> result = new LinkedHashMap<>(executionContext.getExecutionUnits().size(), 1F);
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            String unitSQL = each.getSqlUnit().getSql();
+            int limitIndex = unitSQL.toUpperCase().lastIndexOf(limitKeyword);
+            List<Object> params = each.getSqlUnit().getParameters();
+            if (limitIndex <= 0 || !Character.isWhitespace(unitSQL.charAt(limitIndex - 1)) || params.size() < limitParameterCount) {
+                return Optional.empty();
+            }
+            result.put(each, new SQLUnit(unitSQL.substring(0, limitIndex).trim(), new ArrayList<>(params.subList(0, params.size() - limitParameterCount)), each.getSqlUnit().getTableRouteMappers()));
+        }
+        return Optional.of(result);
+    }
+    
+    private int getLimitParameterCount(final PaginationContext paginationContext) {
+        return (isParameterMarker(paginationContext.getOffsetSegment()) ? 1 : 0) + (isParameterMarker(paginationContext.getRowCountSegment()) ? 1 : 0);
+    }
+    
+    private boolean isParameterMarker(final Optional<PaginationValueSegment> paginationValueSegment) {
+        return paginationValueSegment.map(ParameterMarkerPaginationValueSegment.class::isInstance).orElse(false);
+    }
+    
+    private ExecutionContext createExecutionContext(final ExecutionContext executionContext, final Map<ExecutionUnit, SQLUnit> unlimitedSQLUnits, final Function<String, String> sqlDecorator) {
+        Collection<ExecutionUnit> executionUnits = new LinkedList<>();
+        for (Map.Entry<ExecutionUnit, SQLUnit> entry : unlimitedSQLUnits.entrySet()) {
+            SQLUnit sqlUnit = entry.getValue();
+            executionUnits.add(new ExecutionUnit(entry.getKey().getDataSourceName(),
+                    new SQLUnit(sqlDecorator.apply(sqlUnit.getSql()), new ArrayList<>(sqlUnit.getParameters()), sqlUnit.getTableRouteMappers())));
+        }
+        return new ExecutionContext(executionContext.getQueryContext(), executionUnits, executionContext.getRouteContext());
+    }
+    
+    private Optional<BigDecimal> findBoundary(final List<QueryResult> boundaryResults, final SelectStatementContext selectStatementContext,
+                                              final OrderByItem orderByItem, final boolean ascending) throws SQLException {
+        if (boundaryResults.isEmpty()) {
+            return Optional.empty();
+        }
+        selectStatementContext.setIndexes(getColumnLabelIndexMap(boundaryResults.get(0)));
+        BigDecimal result = null;
+        for (QueryResult each : boundaryResults) {
+            if (!each.next()) {
+                continue;
+            }
+            Object value = each.getValue(orderByItem.getIndex(), Object.class);
+            drain(each);
+            if (!(value instanceof Number)) {
+                return Optional.empty();
+            }
+            BigDecimal boundary = new BigDecimal(value.toString());
+            if (null == result || (ascending ? boundary.compareTo(result) < 0 : boundary.compareTo(result) > 0)) {
+                result = boundary;
+            }
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
+        Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = queryResult.getMetaData().getColumnCount(); i > 0; i--) {
+            result.put(SQLUtils.getExactlyValue(queryResult.getMetaData().getColumnLabel(i)), i);
+        }
+        return result;
+    }
+    
+    private Optional<String> findUniqueProjections(final QueryResult queryResult, final QuoteCharacter quoteCharacter) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        Collection<String> columnLabels = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        StringBuilder result = new StringBuilder();
+        for (int i = 1; i <= columnCount; i++) {
+            String columnLabel = SQLUtils.getExactlyValue(queryResult.getMetaData().getColumnLabel(i));
+            if (!columnLabels.add(columnLabel)) {
+                return Optional.empty();
+            }
+            if (i > 1) {
+                result.append(", ");
+            }
+            result.append(DERIVED_TABLE_ALIAS).append('.').append(quoteCharacter.wrap(columnLabel));
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private long sumCount(final List<QueryResult> countResults) throws SQLException {
+        long result = 0L;
+        for (QueryResult each : countResults) {
+            if (each.next()) {
+                result += ((Number) each.getValue(1, Object.class)).longValue();
+                drain(each);
+            }
+        }
+        return result;
+    }
+    
+    private void drain(final QueryResult queryResult) throws SQLException {
+        boolean hasNext = queryResult.next();
+        while (hasNext) {
+            hasNext = queryResult.next();
+        }
+    }
+}
@@ -17,22 +17,29 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +95,96 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertAsyncExecute() throws InterruptedException {
+        List<CompletableFuture<Collection<String>>> actual = executorEngine.asyncExecute(executionGroupContext, firstCallback, callback);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).join().size(), is(2));
+        assertThat(actual.get(1).join().size(), is(2));
+        latch.await();
+    }
+    
+    @Test
+    void assertParallelExecuteWithTimeout() throws SQLException, InterruptedException {
+        List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, false, 60000L);
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    void assertAsyncExecuteWithoutTrunkThread() {
+        ExecutorCallback<Object, Boolean> trunkThreadCallback = (inputs, isTrunkThread, processId) -> Collections.singleton(isTrunkThread);
+        List<CompletableFuture<Collection<Boolean>>> actual = executorEngine.asyncExecute(executionGroupContext, trunkThreadCallback, trunkThreadCallback);
+        assertThat(actual.get(0).join(), is(Collections.singleton(false)));
+        assertThat(actual.get(1).join(), is(Collections.singleton(false)));
+    }
+    
+    @Test
+    void assertParallelExecuteWithTimeoutInCallerThreadForFirstGroup() throws SQLException {
+        Thread callerThread = Thread.currentThread();
+        ExecutorCallback<Object, Boolean> trunkThreadCallback = (inputs, isTrunkThread, processId) -> Collections.singleton(isTrunkThread && callerThread == Thread.currentThread());
+        assertThat(executorEngine.execute(executionGroupContext, trunkThreadCallback, trunkThreadCallback, false, 60000L), is(Arrays.asList(true, false)));
+    }
+    
+    @Test
+    void assertParallelExecuteWithTimeoutExceeded() {
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        ExecutorCallback<Object, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+            try {
+                blockingLatch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.singleton("succeed");
+        };
+        try {
+            assertThrows(SQLExecutionTimeoutException.class, () -> executorEngine.execute(executionGroupContext, firstCallback, blockingCallback, false, 10L));
+        } finally {
+            blockingLatch.countDown();
+        }
+    }
+    
+    @Test
+    void assertParallelExecuteWithTimeoutExceededInFirstGroup() {
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        ExecutorCallback<Object, String> slowFirstCallback = (inputs, isTrunkThread, processId) -> {
+            try {
+                Thread.sleep(50L);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.singleton("succeed");
+        };
+        ExecutorCallback<Object, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+            try {
+                blockingLatch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.singleton("succeed");
+        };
+        try {
+            assertThrows(SQLExecutionTimeoutException.class, () -> executorEngine.execute(executionGroupContext, slowFirstCallback, blockingCallback, false, 10L));
+        } finally {
+            blockingLatch.countDown();
+        }
+    }
+    
+    @Test
+    void assertAsyncExecuteCancelled() {
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        ExecutorCallback<Object, String> blockingCallback = (inputs, isTrunkThread, processId) -> {
+            try {
+                blockingLatch.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Collections.singleton("succeed");
+        };
+        List<CompletableFuture<Collection<String>>> actual = executorEngine.asyncExecute(executionGroupContext, firstCallback, blockingCallback);
+        assertTrue(actual.get(1).cancel(true));
+        assertTrue(actual.get(1).isCancelled());
+        blockingLatch.countDown();
+    }
 }
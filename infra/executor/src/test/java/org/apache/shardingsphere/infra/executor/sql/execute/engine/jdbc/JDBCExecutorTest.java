@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.jdbc;
 
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -28,15 +29,19 @@ import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JDBCExecutorTest {
@@ -54,6 +59,32 @@ class JDBCExecutorTest {
         assertThat(actual2, is(Collections.singletonList("test")));
     }
     
+    @Test
+    void assertExecuteWithTimeout() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroup<JDBCExecutionUnit> group = new ExecutionGroup<>(Collections.singletonList(mock(JDBCExecutionUnit.class)));
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.singletonList(group), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.execute(any(), any(), any(), anyBoolean(), eq(1000L))).thenReturn(Collections.singletonList("test"));
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, new ConnectionContext());
+        List<?> actual = jdbcExecutor.execute(context, null, null, 1000L);
+        assertThat(actual, is(Collections.singletonList("test")));
+    }
+    
+    @Test
+    void assertExecuteWithTimeoutExceeded() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        Statement statement = mock(Statement.class);
+        JDBCExecutionUnit executionUnit = mock(JDBCExecutionUnit.class);
+        when(executionUnit.getStorageResource()).thenReturn(statement);
+        ExecutionGroup<JDBCExecutionUnit> group = new ExecutionGroup<>(Collections.singletonList(executionUnit));
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.singletonList(group), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.execute(any(), any(), any(), anyBoolean(), eq(1000L))).thenThrow(new SQLExecutionTimeoutException(1000L));
+        JDBCExecutor jdbcExecutor = new JDBCExecutor(executorEngine, new ConnectionContext());
+        SQLExecutorExceptionHandler.setExceptionThrown(true);
+        assertThrows(SQLException.class, () -> jdbcExecutor.execute(context, null, null, 1000L));
+        verify(statement).cancel();
+    }
+    
     @Test
     void assertExecuteSQLException() {
         try {
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.pagination;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeekPaginationEngineTest {
+    
+    private static final String SQL = "SELECT * FROM t_order ORDER BY order_id LIMIT 1000, 10";
+    
+    @Test
+    void assertRewrite() throws SQLException {
+        ExecutionContext executionContext = createExecutionContext(1000L);
+        List<ExecutionContext> probeContexts = new LinkedList<>();
+        Iterator<List<QueryResult>> probeResults = Arrays.asList(Arrays.asList(mockQueryResult(600L), mockQueryResult(500L)), Arrays.asList(mockQueryResult(480L), mockQueryResult(500L))).iterator();
+        ExecutionContext actual = new SeekPaginationEngine(100L, mockDatabase()).rewrite(executionContext, each -> {
+            probeContexts.add(each);
+            return probeResults.next();
+        });
+        assertThat(probeContexts.size(), is(2));
+        assertThat(getSQLs(probeContexts.get(0)), is(Arrays.asList(
+                "SELECT * FROM t_order_0 ORDER BY order_id LIMIT 1 OFFSET 500", "SELECT * FROM t_order_1 ORDER BY order_id LIMIT 1 OFFSET 500")));
+        assertThat(getSQLs(probeContexts.get(1)), is(Arrays.asList(
+                "SELECT COUNT(*) FROM (SELECT * FROM t_order_0 ORDER BY order_id) seek_pagination WHERE seek_pagination.order_id < 500",
+                "SELECT COUNT(*) FROM (SELECT * FROM t_order_1 ORDER BY order_id) seek_pagination WHERE seek_pagination.order_id < 500")));
+        assertThat(getSQLs(actual), is(Arrays.asList(
+                "SELECT seek_pagination.order_id, seek_pagination.user_id FROM (SELECT * FROM t_order_0 ORDER BY order_id) seek_pagination"
+                        + " WHERE seek_pagination.order_id >= 500 ORDER BY seek_pagination.order_id ASC LIMIT 30",
+                "SELECT seek_pagination.order_id, seek_pagination.user_id FROM (SELECT * FROM t_order_1 ORDER BY order_id) seek_pagination"
+                        + " WHERE seek_pagination.order_id >= 500 ORDER BY seek_pagination.order_id ASC LIMIT 30")));
+        assertThat(((SelectStatementContext) actual.getSqlStatementContext()).getPaginationContext().getMergeOffset(), is(20L));
+    }
+    
+    @Test
+    void assertRewriteWithDuplicateColumnLabels() throws SQLException {
+        ExecutionContext executionContext = createExecutionContext(1000L);
+        List<QueryResult> boundaryResults = Arrays.asList(mockQueryResult(600L, "user_id", "order_id"), mockQueryResult(500L, "user_id", "order_id"));
+        assertThat(new SeekPaginationEngine(100L, mockDatabase()).rewrite(executionContext, each -> boundaryResults), is(executionContext));
+        assertThat(((SelectStatementContext) executionContext.getSqlStatementContext()).getPaginationContext().getMergeOffset(), is(1000L));
+    }
+    
+    @Test
+    void assertRewriteWithOffsetLessThanThreshold() throws SQLException {
+        ExecutionContext executionContext = createExecutionContext(1000L);
+        assertThat(new SeekPaginationEngine(2000L, mockDatabase()).rewrite(executionContext, each -> Collections.emptyList()), is(executionContext));
+    }
+    
+    @Test
+    void assertRewriteWithoutBoundary() throws SQLException {
+        ExecutionContext executionContext = createExecutionContext(1000L);
+        QueryResult emptyQueryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(emptyQueryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(emptyQueryResult.getMetaData().getColumnLabel(1)).thenReturn("order_id");
+        assertThat(new SeekPaginationEngine(100L, mockDatabase()).rewrite(executionContext, each -> Arrays.asList(emptyQueryResult, emptyQueryResult)), is(executionContext));
+        assertThat(((SelectStatementContext) executionContext.getSqlStatementContext()).getPaginationContext().getMergeOffset(), is(1000L));
+    }
+    
+    private ExecutionContext createExecutionContext(final long offset) {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setLimit(new LimitSegment(SQL.indexOf("LIMIT"), SQL.length() - 1, new NumberLiteralLimitValueSegment(0, 0, offset), new NumberLiteralLimitValueSegment(0, 0, 10L)));
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getSqlStatement()).thenReturn(selectStatement);
+        when(selectStatementContext.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(selectStatementContext.getGroupByContext().getItems()).thenReturn(Collections.emptyList());
+        when(selectStatementContext.getProjectionsContext().getAggregationProjections()).thenReturn(Collections.emptyList());
+        when(selectStatementContext.getPaginationContext()).thenReturn(
+                new PaginationContext(selectStatement.getLimit().get().getOffset().get(), selectStatement.getLimit().get().getRowCount().get(), Collections.emptyList()));
+        OrderByItem orderByItem = new OrderByItem(new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("order_id")), OrderDirection.ASC, NullsOrderType.FIRST));
+        orderByItem.setIndex(1);
+        when(selectStatementContext.getOrderByContext()).thenReturn(new OrderByContext(Collections.singleton(orderByItem), false));
+        when(selectStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_order"));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        QueryContext queryContext = mock(QueryContext.class);
+        when(queryContext.getSql()).thenReturn(SQL);
+        when(queryContext.getSqlStatementContext()).thenReturn(selectStatementContext);
+        return new ExecutionContext(queryContext, Arrays.asList(createExecutionUnit("ds_0", "t_order_0"), createExecutionUnit("ds_1", "t_order_1")), mock(RouteContext.class));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final String actualTableName) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(String.format("SELECT * FROM %s ORDER BY order_id LIMIT 0, 1010", actualTableName), Collections.emptyList()));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        when(table.getPrimaryKeyColumns()).thenReturn(Collections.singletonList("order_id"));
+        ShardingSphereSchema schema = mock(ShardingSphereSchema.class);
+        when(schema.containsTable("t_order")).thenReturn(true);
+        when(schema.getTable("t_order")).thenReturn(table);
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getSchema("foo_schema")).thenReturn(schema);
+        return result;
+    }
+    
+    private QueryResult mockQueryResult(final long value) throws SQLException {
+        return mockQueryResult(value, "user_id");
+    }
+    
+    private QueryResult mockQueryResult(final long value, final String... otherColumnLabels) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.next()).thenReturn(true, false);
+        when(result.getValue(1, Object.class)).thenReturn(value);
+        when(result.getMetaData().getColumnCount()).thenReturn(otherColumnLabels.length + 1);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("order_id");
+        for (int i = 0; i < otherColumnLabels.length; i++) {
+            when(result.getMetaData().getColumnLabel(i + 2)).thenReturn(otherColumnLabels[i]);
+        }
+        return result;
+    }
+    
+    private List<String> getSQLs(final ExecutionContext executionContext) {
+        List<String> result = new ArrayList<>(executionContext.getExecutionUnits().size());
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            result.add(each.getSqlUnit().getSql());
+        }
+        return result;
+    }
+}
@@ -24,6 +24,8 @@ import groovy.lang.GString;
 import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.groovy.compiled.CompiledInlineExpression;
+import org.apache.shardingsphere.infra.expr.groovy.compiled.InlineExpressionCompiler;
 import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 import org.apache.shardingsphere.infra.util.groovy.GroovyUtils;
 
@@ -51,9 +53,12 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     
     private String inlineExpression;
     
+    private CompiledInlineExpression compiledInlineExpression;
+    
     @Override
     public void init(final Properties props) {
         inlineExpression = props.getProperty(INLINE_EXPRESSION_KEY);
+        compiledInlineExpression = null == inlineExpression ? null : InlineExpressionCompiler.compile(handlePlaceHolder(inlineExpression)).orElse(null);
     }
     
     @Override
@@ -84,10 +89,17 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     /**
      * Turn inline expression into Groovy Closure. This function will replace all inline expression placeholders.
      * For compatibility reasons, it does not check whether the unit of the input parameter map is null.
+     * Inline expressions of the common grammar are evaluated by the compiled inline expression without Groovy.
      * @return The result of the Groovy Closure pattern.
      */
     @Override
     public String evaluateWithArgs(final Map<String, Comparable<?>> map) {
+        if (null != compiledInlineExpression) {
+            String result = compiledInlineExpression.evaluate(map);
+            if (null != result) {
+                return result;
+            }
+        }
         Closure<?> result = ((Closure<?>) evaluate("{it -> \"" + handlePlaceHolder(inlineExpression) + "\"}")).rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         map.forEach(result::setProperty);
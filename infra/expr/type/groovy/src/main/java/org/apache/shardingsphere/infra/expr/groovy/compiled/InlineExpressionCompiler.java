@@ -0,0 +1,417 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiled;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>
+ * Inline expressions of the common grammar are compiled into evaluator trees once, which give the same results as Groovy.
+ * The common grammar is literal text with {@code ${...}} segments, which consist of integer and string literals, variables, parentheses,
+ * {@code +}, {@code -}, {@code *}, {@code %}, unary minus, {@code hashCode()} and {@code Math.abs()}.
+ * Identifiers starting with upper case are not compiled, because Groovy may resolve them as class names.
+ * Other inline expressions are not compiled and should be evaluated by Groovy.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionCompiler {
+    
+    private static final String EXPRESSION_BEGIN = "${";
+    
+    private static final String HASH_CODE = ".hashCode()";
+    
+    private static final String MATH_ABS = "Math.abs(";
+    
+    private static final Collection<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList("it", "this", "super", "true", "false", "null", "new", "in", "as", "instanceof"));
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $} placeholders
+     * @return compiled inline expression, empty if inline expression is out of the common grammar
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<Object> segments = new ArrayList<>();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            int beginIndex = inlineExpression.indexOf(EXPRESSION_BEGIN, index);
+            String literal = beginIndex < 0 ? inlineExpression.substring(index) : inlineExpression.substring(index, beginIndex);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            if (!literal.isEmpty()) {
+                segments.add(literal);
+            }
+            if (beginIndex < 0) {
+                break;
+            }
+            int endIndex = findExpressionEndIndex(inlineExpression, beginIndex + EXPRESSION_BEGIN.length());
+            if (endIndex < 0) {
+                return Optional.empty();
+            }
+            CompiledExpressionNode node = new ExpressionParser(inlineExpression.substring(beginIndex + EXPRESSION_BEGIN.length(), endIndex)).parse();
+            if (null == node) {
+                return Optional.empty();
+            }
+            segments.add(node);
+            index = endIndex + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(segments));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            char each = literal.charAt(i);
+            if ('$' == each || '"' == each || '\\' == each || '\n' == each || '\r' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int findExpressionEndIndex(final String inlineExpression, final int beginIndex) {
+        boolean quoted = false;
+        for (int i = beginIndex; i < inlineExpression.length(); i++) {
+            char each = inlineExpression.charAt(i);
+            if ('\'' == each) {
+                quoted = !quoted;
+            } else if (!quoted && '}' == each) {
+                return i;
+            } else if (!quoted && '{' == each) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+    
+    private static final class ExpressionParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        ExpressionParser(final String expression) {
+            this.expression = expression;
+        }
+        
+        CompiledExpressionNode parse() {
+            CompiledExpressionNode result = parseAdditive();
+            skipWhitespaces();
+            return position < expression.length() ? null : result;
+        }
+        
+        private CompiledExpressionNode parseAdditive() {
+            CompiledExpressionNode result = parseMultiplicative();
+            while (null != result) {
+                char operator = peekOperator('+', '-');
+                if (0 == operator) {
+                    return result;
+                }
+                CompiledExpressionNode right = parseMultiplicative();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private CompiledExpressionNode parseMultiplicative() {
+            CompiledExpressionNode result = parseUnary();
+            while (null != result) {
+                char operator = peekOperator('*', '%');
+                if (0 == operator) {
+                    return result;
+                }
+                CompiledExpressionNode right = parseUnary();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return null;
+        }
+        
+        private char peekOperator(final char... operators) {
+            skipWhitespaces();
+            if (position >= expression.length()) {
+                return 0;
+            }
+            char current = expression.charAt(position);
+            for (char each : operators) {
+                if (each == current && !isFollowedBy(position + 1, current) && !isFollowedBy(position + 1, '=')) {
+                    position++;
+                    return current;
+                }
+            }
+            return 0;
+        }
+        
+        private CompiledExpressionNode parseUnary() {
+            skipWhitespaces();
+            if (isFollowedBy(position, '-')) {
+                if (isFollowedBy(position + 1, '-')) {
+                    return null;
+                }
+                position++;
+                CompiledExpressionNode operand = parseUnary();
+                return null == operand ? null : new NegateNode(operand);
+            }
+            return parsePostfix();
+        }
+        
+        private CompiledExpressionNode parsePostfix() {
+            CompiledExpressionNode result = parsePrimary();
+            while (null != result) {
+                skipWhitespaces();
+                if (!expression.startsWith(HASH_CODE, position)) {
+                    return isFollowedBy(position, '.') ? null : result;
+                }
+                position += HASH_CODE.length();
+                result = new HashCodeNode(result);
+            }
+            return null;
+        }
+        
+        private CompiledExpressionNode parsePrimary() {
+            skipWhitespaces();
+            if (position >= expression.length()) {
+                return null;
+            }
+            char current = expression.charAt(position);
+            if ('(' == current) {
+                position++;
+                CompiledExpressionNode result = parseAdditive();
+                skipWhitespaces();
+                if (null == result || !isFollowedBy(position, ')')) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if (expression.startsWith(MATH_ABS, position)) {
+                position += MATH_ABS.length();
+                CompiledExpressionNode result = parseAdditive();
+                skipWhitespaces();
+                if (null == result || !isFollowedBy(position, ')')) {
+                    return null;
+                }
+                position++;
+                return new AbsNode(result);
+            }
+            if (Character.isDigit(current)) {
+                return parseNumber();
+            }
+            if ('\'' == current) {
+                return parseString();
+            }
+            if (Character.isLetter(current) || '_' == current) {
+                return parseVariable();
+            }
+            return null;
+        }
+        
+        private CompiledExpressionNode parseNumber() {
+            int beginIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && isIdentifierPart(expression.charAt(position)) || isFollowedBy(position, '.') && !expression.startsWith(HASH_CODE, position)) {
+                return null;
+            }
+            String literal = expression.substring(beginIndex, position);
+            if (literal.length() > 1 && '0' == literal.charAt(0) || literal.length() > 19) {
+                return null;
+            }
+            try {
+                long value = Long.parseLong(literal);
+                return new LiteralNode(value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value);
+            } catch (final NumberFormatException ignored) {
+                return null;
+            }
+        }
+        
+        private CompiledExpressionNode parseString() {
+            int endIndex = expression.indexOf('\'', position + 1);
+            if (endIndex < 0) {
+                return null;
+            }
+            String literal = expression.substring(position + 1, endIndex);
+            if (literal.indexOf('\\') >= 0) {
+                return null;
+            }
+            position = endIndex + 1;
+            return new LiteralNode(literal);
+        }
+        
+        private CompiledExpressionNode parseVariable() {
+            int beginIndex = position;
+            while (position < expression.length() && isIdentifierPart(expression.charAt(position))) {
+                position++;
+            }
+            String name = expression.substring(beginIndex, position);
+            skipWhitespaces();
+            if (RESERVED_IDENTIFIERS.contains(name) || Character.isUpperCase(name.charAt(0)) || isFollowedBy(position, '(')) {
+                return null;
+            }
+            return new VariableNode(name);
+        }
+        
+        private boolean isIdentifierPart(final char value) {
+            return Character.isLetterOrDigit(value) || '_' == value || '$' == value;
+        }
+        
+        private boolean isFollowedBy(final int index, final char value) {
+            return index < expression.length() && value == expression.charAt(index);
+        }
+        
+        private void skipWhitespaces() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralNode implements CompiledExpressionNode {
+        
+        private final Object value;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements CompiledExpressionNode {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object result = args.get(name);
+            if (result instanceof Integer || result instanceof Long || result instanceof String) {
+                return result;
+            }
+            return result instanceof Short || result instanceof Byte ? ((Number) result).intValue() : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements CompiledExpressionNode {
+        
+        private final char operator;
+        
+        private final CompiledExpressionNode left;
+        
+        private final CompiledExpressionNode right;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object leftValue = left.evaluate(args);
+            Object rightValue = null == leftValue ? null : right.evaluate(args);
+            if (null == rightValue) {
+                return null;
+            }
+            if ('+' == operator && (leftValue instanceof String || rightValue instanceof String)) {
+                return leftValue.toString() + rightValue;
+            }
+            if (!(leftValue instanceof Number) || !(rightValue instanceof Number)) {
+                return null;
+            }
+            return leftValue instanceof Long || rightValue instanceof Long
+                    ? calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue())
+                    : calculate((int) leftValue, (int) rightValue);
+        }
+        
+        private Object calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0L == rightValue ? null : leftValue % rightValue;
+            }
+        }
+        
+        private Object calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0 == rightValue ? null : leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode implements CompiledExpressionNode {
+        
+        private final CompiledExpressionNode operand;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object value = operand.evaluate(args);
+            if (value instanceof Integer) {
+                return -(int) value;
+            }
+            return value instanceof Long ? -(long) value : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements CompiledExpressionNode {
+        
+        private final CompiledExpressionNode operand;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object value = operand.evaluate(args);
+            return null == value ? null : value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements CompiledExpressionNode {
+        
+        private final CompiledExpressionNode operand;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object value = operand.evaluate(args);
+            if (value instanceof Integer) {
+                return Math.abs((int) value);
+            }
+            return value instanceof Long ? Math.abs((long) value) : null;
+        }
+    }
+}
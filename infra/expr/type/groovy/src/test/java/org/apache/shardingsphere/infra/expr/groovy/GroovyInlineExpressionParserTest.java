@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -142,6 +143,14 @@ class GroovyInlineExpressionParserTest {
                 new PropertiesBuilder.Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, "${1+2}"))).evaluateWithArgs(new LinkedHashMap<>()), is("3"));
     }
     
+    @Test
+    void assertEvaluateWithArgsForCompiledExpression() {
+        InlineExpressionParser parser = TypedSPILoader.getService(InlineExpressionParser.class, "GROOVY", PropertiesBuilder.build(
+                new PropertiesBuilder.Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, "t_order_$->{order_id % 4}")));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("order_id", 10)), is("t_order_2"));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("order_id", new BigDecimal("10"))), is("t_order_2"));
+    }
+    
     @Test
     @SneakyThrows({ExecutionException.class, InterruptedException.class})
     void assertThreadSafety() {
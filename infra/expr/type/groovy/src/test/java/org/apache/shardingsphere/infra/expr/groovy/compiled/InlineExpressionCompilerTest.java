@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy.compiled;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InlineExpressionCompilerTest {
+    
+    @Test
+    void assertEvaluateModulo() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${order_id % 32}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 65)), is("t_order_1"));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 65L)), is("t_order_1"));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", -65)), is("t_order_-1"));
+    }
+    
+    @Test
+    void assertEvaluateArithmeticWithPrecedence() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("ds_${(user_id + 1) * 2 - -order_id % 3}").orElseThrow(IllegalStateException::new);
+        Map<String, Comparable<?>> args = new HashMap<>(2, 1F);
+        args.put("user_id", 4);
+        args.put("order_id", (short) 5);
+        assertThat(actual.evaluate(args), is("ds_12"));
+    }
+    
+    @Test
+    void assertEvaluateIntegerOverflowLikeGroovy() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("${id * 2}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate(Collections.singletonMap("id", Integer.MAX_VALUE)), is(String.valueOf(Integer.MAX_VALUE * 2)));
+        assertThat(actual.evaluate(Collections.singletonMap("id", (long) Integer.MAX_VALUE)), is(String.valueOf(Integer.MAX_VALUE * 2L)));
+    }
+    
+    @Test
+    void assertEvaluateHashCode() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_user_${Math.abs(name.hashCode()) % 4}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate(Collections.singletonMap("name", "foo")), is("t_user_" + Math.abs("foo".hashCode()) % 4));
+    }
+    
+    @Test
+    void assertEvaluateStringConcatenation() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_${'order_' + id + 1}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate(Collections.singletonMap("id", 3)), is("t_order_31"));
+    }
+    
+    @Test
+    void assertEvaluateUnsupportedArguments() {
+        CompiledInlineExpression actual = InlineExpressionCompiler.compile("t_order_${order_id % 2}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", new BigDecimal("1"))), nullValue());
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", "1")), nullValue());
+        assertThat(actual.evaluate(Collections.singletonMap("user_id", 1)), nullValue());
+    }
+    
+    @Test
+    void assertCompileOutOfGrammar() {
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${0..1}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id.intdiv(2)}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${Integer.MAX_VALUE}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${it}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_$order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${010}").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 2").isPresent());
+    }
+    
+    @Test
+    void assertCompilePlainText() {
+        assertTrue(InlineExpressionCompiler.compile("t_order").isPresent());
+        assertThat(InlineExpressionCompiler.compile("t_order").get().evaluate(Collections.emptyMap()), is("t_order"));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Memory budget of memory merged result for each query.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MemoryMergeBudget {
+    
+    private final long maxBytes;
+    
+    private long usedBytes;
+    
+    /**
+     * Judge whether budget is unlimited.
+     *
+     * @return budget is unlimited or not
+     */
+    public boolean isUnlimited() {
+        return maxBytes <= 0L;
+    }
+    
+    /**
+     * Reserve bytes from budget.
+     *
+     * @param bytes bytes to be reserved
+     * @return whether used bytes are still in budget after reserved
+     */
+    public boolean reserve(final long bytes) {
+        usedBytes += bytes;
+        return isUnlimited() || usedBytes <= maxBytes;
+    }
+    
+    /**
+     * Release bytes to budget.
+     *
+     * @param bytes bytes to be released
+     */
+    public void release(final long bytes) {
+        usedBytes = Math.max(0L, usedBytes - bytes);
+    }
+}
@@ -17,6 +17,10 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -47,6 +51,11 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     
     private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
     
+    @Getter(AccessLevel.PROTECTED)
+    private final MemoryMergeBudget memoryMergeBudget;
+    
+    private final Iterable<MemoryQueryResultRow> initializedResultSetRows;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     private MemoryQueryResultRow currentResultSetRow;
@@ -54,14 +63,21 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     private boolean wasNull;
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        List<MemoryQueryResultRow> memoryQueryResultRows = init(rule, schema, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRows.iterator();
-        if (!memoryQueryResultRows.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRows.get(0);
+        this(rule, schema, sqlStatementContext, queryResults, 0L);
+    }
+    
+    protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults,
+                                 final long maxMemoryBytes) throws SQLException {
+        memoryMergeBudget = new MemoryMergeBudget(maxMemoryBytes);
+        initializedResultSetRows = init(rule, schema, sqlStatementContext, queryResults);
+        PeekingIterator<MemoryQueryResultRow> memoryQueryResultRows = Iterators.peekingIterator(initializedResultSetRows.iterator());
+        memoryResultSetRows = memoryQueryResultRows;
+        if (memoryQueryResultRows.hasNext()) {
+            currentResultSetRow = memoryQueryResultRows.peek();
         }
     }
     
-    protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
+    protected abstract Iterable<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
     public final boolean next() {
@@ -102,4 +118,11 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public final void close() {
+        if (initializedResultSetRows instanceof SpillableMemoryQueryResultRows) {
+            ((SpillableMemoryQueryResultRows) initializedResultSetRows).close();
+        }
+    }
 }
@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Binary codec of memory query result row, used to spill rows into local temp files.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MemoryQueryResultRowCodec {
+    
+    private static final int ROW_OVERHEAD_BYTES = 32;
+    
+    private static final int CELL_OVERHEAD_BYTES = 8;
+    
+    private static final int DEFAULT_VALUE_BYTES = 32;
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte BYTE = 5;
+    
+    private static final byte DOUBLE = 6;
+    
+    private static final byte FLOAT = 7;
+    
+    private static final byte BOOLEAN = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte TIMESTAMP = 12;
+    
+    private static final byte DATE = 13;
+    
+    private static final byte TIME = 14;
+    
+    private static final byte UTIL_DATE = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    private static final byte CHARACTER = 19;
+    
+    private static final byte UUID_VALUE = 20;
+    
+    /**
+     * Estimate heap size of memory query result row.
+     *
+     * @param row memory query result row
+     * @return estimated heap size in bytes
+     */
+    public static long estimateSize(final MemoryQueryResultRow row) {
+        long result = ROW_OVERHEAD_BYTES;
+        for (int i = 1; i <= row.getColumnCount(); i++) {
+            result += CELL_OVERHEAD_BYTES + estimateValueSize(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private static long estimateValueSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 48L + value.toString().length() / 2;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            return 16L;
+        }
+        return DEFAULT_VALUE_BYTES;
+    }
+    
+    /**
+     * Judge whether all values of memory query result row can be written.
+     *
+     * @param row memory query result row
+     * @return all values can be written or not
+     */
+    public static boolean isSupported(final MemoryQueryResultRow row) {
+        for (int i = 1; i <= row.getColumnCount(); i++) {
+            if (!isSupportedValue(row.getCell(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isSupportedValue(final Object value) {
+        return null == value || value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Double || value instanceof Float || value instanceof Boolean || value instanceof BigDecimal || value instanceof BigInteger || value instanceof byte[]
+                || value instanceof Timestamp || value instanceof Date || value instanceof Time || java.util.Date.class == value.getClass()
+                || value instanceof LocalDate || value instanceof LocalTime || value instanceof LocalDateTime || value instanceof Character || value instanceof UUID;
+    }
+    
+    /**
+     * Write memory query result row.
+     *
+     * @param output data output
+     * @param row memory query result row
+     * @throws IOException IO exception
+     * @throws SQLFeatureNotSupportedException SQL feature not supported exception
+     */
+    public static void write(final DataOutput output, final MemoryQueryResultRow row) throws IOException, SQLFeatureNotSupportedException {
+        output.writeInt(row.getColumnCount());
+        for (int i = 1; i <= row.getColumnCount(); i++) {
+            writeValue(output, row.getCell(i));
+        }
+    }
+    
+    private static void writeValue(final DataOutput output, final Object value) throws IOException, SQLFeatureNotSupportedException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else {
+            writeOtherValue(output, value);
+        }
+    }
+    
+    private static void writeOtherValue(final DataOutput output, final Object value) throws IOException, SQLFeatureNotSupportedException {
+        if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (java.util.Date.class == value.getClass()) {
+            output.writeByte(UTIL_DATE);
+            output.writeLong(((java.util.Date) value).getTime());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof Character) {
+            output.writeByte(CHARACTER);
+            output.writeChar((Character) value);
+        } else if (value instanceof UUID) {
+            output.writeByte(UUID_VALUE);
+            output.writeLong(((UUID) value).getMostSignificantBits());
+            output.writeLong(((UUID) value).getLeastSignificantBits());
+        } else {
+            throw new SQLFeatureNotSupportedException(String.format("Spill value of `%s`", value.getClass().getName()));
+        }
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+    
+    /**
+     * Read memory query result row.
+     *
+     * @param input data input
+     * @return memory query result row
+     * @throws IOException IO exception
+     */
+    public static MemoryQueryResultRow read(final DataInput input) throws IOException {
+        Object[] data = new Object[input.readInt()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = readValue(input);
+        }
+        return new MemoryQueryResultRow(data);
+    }
+    
+    private static Object readValue(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case BOOLEAN:
+                return input.readBoolean();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BYTES:
+                return readBytes(input);
+            default:
+                return readOtherValue(input, type);
+        }
+    }
+    
+    private static Object readOtherValue(final DataInput input, final byte type) throws IOException {
+        switch (type) {
+            case TIMESTAMP:
+                Timestamp result = new Timestamp(input.readLong());
+                result.setNanos(input.readInt());
+                return result;
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case UTIL_DATE:
+                return new java.util.Date(input.readLong());
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+            case CHARACTER:
+                return input.readChar();
+            case UUID_VALUE:
+                return new UUID(input.readLong(), input.readLong());
+            default:
+                throw new IOException(String.format("Unknown spilled value type `%s`", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+}
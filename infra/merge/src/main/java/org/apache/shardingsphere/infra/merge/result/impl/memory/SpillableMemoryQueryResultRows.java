@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import com.google.common.io.Closeables;
+import com.google.common.io.CountingOutputStream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Spillable memory query result rows.
+ * 
+ * <p>Rows are held in memory until the memory merge budget is exceeded, then they are sorted and spilled into a local temp file as a sorted run.
+ * Iterating merges all sorted runs with the rows still held in memory, so the rows are always returned in the order of the comparator.
+ * Spill files are deleted once their run has been read, or when rows are closed before all of them have been read.
+ * Once a row holds a value which can not be written by {@link MemoryQueryResultRowCodec}, no more rows are spilled and the rest are held in memory.</p>
+ */
+@RequiredArgsConstructor
+public final class SpillableMemoryQueryResultRows implements Iterable<MemoryQueryResultRow>, AutoCloseable {
+    
+    private static final String TEMP_FILE_PREFIX = "shardingsphere-merge-";
+    
+    private static final String TEMP_FILE_SUFFIX = ".spill";
+    
+    private final MemoryMergeBudget budget;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final List<MemoryQueryResultRow> bufferedRows = new ArrayList<>();
+    
+    private final Collection<SpilledRun> spilledRuns = new LinkedList<>();
+    
+    private long bufferedBytes;
+    
+    private boolean spillable = true;
+    
+    @Getter
+    private long spilledBytes;
+    
+    @Getter
+    private int size;
+    
+    /**
+     * Add memory query result row.
+     *
+     * @param row memory query result row
+     * @throws SQLException SQL exception
+     */
+    public void add(final MemoryQueryResultRow row) throws SQLException {
+        long rowBytes = MemoryQueryResultRowCodec.estimateSize(row);
+        bufferedRows.add(row);
+        bufferedBytes += rowBytes;
+        size++;
+        if (spillable && !MemoryQueryResultRowCodec.isSupported(row)) {
+            spillable = false;
+        }
+        if (!budget.reserve(rowBytes) && spillable) {
+            spill();
+        }
+    }
+    
+    /**
+     * Judge whether rows are empty.
+     *
+     * @return rows are empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    /**
+     * Spill rows held in memory into local temp file.
+     *
+     * @return spilled bytes, zero if no rows held in memory or any of them can not be spilled
+     * @throws SQLException SQL exception
+     */
+    public long spill() throws SQLException {
+        if (bufferedRows.isEmpty() || !spillable) {
+            return 0L;
+        }
+        bufferedRows.sort(comparator);
+        Path file = createTempFile();
+        long result;
+        try (
+                CountingOutputStream countingOutputStream = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+                DataOutputStream outputStream = new DataOutputStream(countingOutputStream)) {
+            for (MemoryQueryResultRow each : bufferedRows) {
+                MemoryQueryResultRowCodec.write(outputStream, each);
+            }
+            outputStream.flush();
+            result = countingOutputStream.getCount();
+        } catch (final IOException | SQLException ex) {
+            deleteQuietly(file);
+            throw ex instanceof SQLException ? (SQLException) ex : new SQLException(String.format("Can not spill rows into `%s`", file), ex);
+        }
+        spilledRuns.add(new SpilledRun(file, bufferedRows.size()));
+        spilledBytes += result;
+        budget.release(bufferedBytes);
+        bufferedRows.clear();
+        bufferedBytes = 0L;
+        return result;
+    }
+    
+    private Path createTempFile() throws SQLException {
+        try {
+            return Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+        } catch (final IOException ex) {
+            throw new SQLException("Can not create temp file to spill rows", ex);
+        }
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultRow> iterator() {
+        bufferedRows.sort(comparator);
+        if (spilledRuns.isEmpty()) {
+            return bufferedRows.iterator();
+        }
+        List<Iterator<MemoryQueryResultRow>> runIterators = new ArrayList<>(spilledRuns.size() + 1);
+        for (SpilledRun each : spilledRuns) {
+            runIterators.add(new SpilledRunIterator(each));
+        }
+        runIterators.add(new BufferedRowsIterator(bufferedRows.iterator()));
+        return new SortedRunsMergeIterator(runIterators);
+    }
+    
+    /**
+     * Close rows, delete all spill files and release bytes held in memory to budget.
+     */
+    @Override
+    public void close() {
+        for (SpilledRun each : spilledRuns) {
+            each.close();
+        }
+        spilledRuns.clear();
+        budget.release(bufferedBytes);
+        bufferedRows.clear();
+        bufferedBytes = 0L;
+    }
+    
+    private static void deleteQuietly(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+            file.toFile().deleteOnExit();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpilledRun {
+        
+        private final Path file;
+        
+        private final int rowCount;
+        
+        private DataInputStream inputStream;
+        
+        private DataInputStream getInputStream() throws IOException {
+            if (null == inputStream) {
+                inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+            }
+            return inputStream;
+        }
+        
+        private void close() {
+            Closeables.closeQuietly(inputStream);
+            inputStream = null;
+            deleteQuietly(file);
+        }
+    }
+    
+    private static final class SpilledRunIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final SpilledRun run;
+        
+        private int remainingRowCount;
+        
+        SpilledRunIterator(final SpilledRun run) {
+            this.run = run;
+            remainingRowCount = run.rowCount;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return remainingRowCount > 0;
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                MemoryQueryResultRow result = MemoryQueryResultRowCodec.read(run.getInputStream());
+                remainingRowCount--;
+                if (0 == remainingRowCount) {
+                    run.close();
+                }
+                return result;
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private final class BufferedRowsIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final Iterator<MemoryQueryResultRow> delegate;
+        
+        @Override
+        public boolean hasNext() {
+            if (delegate.hasNext()) {
+                return true;
+            }
+            budget.release(bufferedBytes);
+            bufferedBytes = 0L;
+            return false;
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            return delegate.next();
+        }
+    }
+    
+    private final class SortedRunsMergeIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final List<Iterator<MemoryQueryResultRow>> runIterators;
+        
+        private final PriorityQueue<RunCursor> cursors;
+        
+        SortedRunsMergeIterator(final List<Iterator<MemoryQueryResultRow>> runIterators) {
+            this.runIterators = runIterators;
+            cursors = new PriorityQueue<>(runIterators.size(), this::compare);
+            for (int i = 0; i < runIterators.size(); i++) {
+                if (runIterators.get(i).hasNext()) {
+                    cursors.offer(new RunCursor(i, runIterators.get(i).next()));
+                }
+            }
+        }
+        
+        private int compare(final RunCursor o1, final RunCursor o2) {
+            int result = comparator.compare(o1.row, o2.row);
+            return 0 == result ? Integer.compare(o1.runIndex, o2.runIndex) : result;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !cursors.isEmpty();
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            RunCursor cursor = cursors.poll();
+            if (null == cursor) {
+                throw new NoSuchElementException();
+            }
+            Iterator<MemoryQueryResultRow> runIterator = runIterators.get(cursor.runIndex);
+            if (runIterator.hasNext()) {
+                cursors.offer(new RunCursor(cursor.runIndex, runIterator.next()));
+            }
+            return cursor.row;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RunCursor {
+        
+        private final int runIndex;
+        
+        private final MemoryQueryResultRow row;
+    }
+}
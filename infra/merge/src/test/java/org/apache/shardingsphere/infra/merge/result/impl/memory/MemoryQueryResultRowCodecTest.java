@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryQueryResultRowCodecTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException, SQLException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] data = {null, "foo", 1, 2L, (short) 3, (byte) 4, 5.5D, 6.5F, true, new BigDecimal("12.3400"), new BigInteger("123456789012345678901234567890"),
+                timestamp, new Date(1000L), new Time(1000L), new java.util.Date(1000L), LocalDate.of(2024, 1, 1), LocalTime.of(1, 2, 3, 4),
+                LocalDateTime.of(2024, 1, 1, 1, 2, 3, 4), 'c', new UUID(1L, 2L)};
+        MemoryQueryResultRow actual = writeAndRead(new MemoryQueryResultRow(data));
+        assertThat(actual.getColumnCount(), is(data.length));
+        assertNull(actual.getCell(1));
+        for (int i = 2; i <= data.length; i++) {
+            assertThat(actual.getCell(i), is(data[i - 1]));
+        }
+    }
+    
+    @Test
+    void assertWriteAndReadBytes() throws IOException, SQLException {
+        MemoryQueryResultRow actual = writeAndRead(new MemoryQueryResultRow(new Object[]{new byte[]{1, 2, 3}}));
+        assertThat(actual.getCell(1), is(new byte[]{1, 2, 3}));
+    }
+    
+    @Test
+    void assertWriteNotSupportedValue() {
+        assertThrows(SQLFeatureNotSupportedException.class, () -> writeAndRead(new MemoryQueryResultRow(new Object[]{new Object()})));
+    }
+    
+    @Test
+    void assertWriteNotSupportedSerializableValue() {
+        assertThrows(SQLFeatureNotSupportedException.class, () -> writeAndRead(new MemoryQueryResultRow(new Object[]{new StringBuilder("foo")})));
+    }
+    
+    @Test
+    void assertIsSupported() {
+        assertTrue(MemoryQueryResultRowCodec.isSupported(new MemoryQueryResultRow(new Object[]{1, "foo", null, new Timestamp(0L), UUID.randomUUID()})));
+        assertFalse(MemoryQueryResultRowCodec.isSupported(new MemoryQueryResultRow(new Object[]{1, OffsetDateTime.now()})));
+    }
+    
+    @Test
+    void assertEstimateSize() {
+        assertTrue(MemoryQueryResultRowCodec.estimateSize(new MemoryQueryResultRow(new Object[]{"foo_bar"}))
+                > MemoryQueryResultRowCodec.estimateSize(new MemoryQueryResultRow(new Object[]{null})));
+    }
+    
+    private MemoryQueryResultRow writeAndRead(final MemoryQueryResultRow row) throws IOException, SQLException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        MemoryQueryResultRowCodec.write(new DataOutputStream(outputStream), row);
+        return MemoryQueryResultRowCodec.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillableMemoryQueryResultRowsTest {
+    
+    private final Comparator<MemoryQueryResultRow> comparator = Comparator.comparing(each -> (Integer) each.getCell(1));
+    
+    @Test
+    void assertIterateWithoutSpilling() throws SQLException {
+        MemoryMergeBudget budget = new MemoryMergeBudget(0L);
+        SpillableMemoryQueryResultRows actual = createRows(budget, 3, 1, 2);
+        assertThat(getIds(actual), is(Arrays.asList(1, 2, 3)));
+        assertThat(actual.getSpilledBytes(), is(0L));
+        assertThat(actual.getSize(), is(3));
+    }
+    
+    @Test
+    void assertIterateWithSpilling() throws SQLException {
+        MemoryMergeBudget budget = new MemoryMergeBudget(1L);
+        SpillableMemoryQueryResultRows actual = createRows(budget, 5, 3, 4, 1, 2);
+        assertTrue(actual.getSpilledBytes() > 0L);
+        assertThat(getIds(actual), is(Arrays.asList(1, 2, 3, 4, 5)));
+        assertThat(budget.getUsedBytes(), is(0L));
+    }
+    
+    @Test
+    void assertIterateWithNotSupportedValue() throws SQLException {
+        MemoryMergeBudget budget = new MemoryMergeBudget(1L);
+        SpillableMemoryQueryResultRows actual = createRows(budget, 5, 3);
+        long spilledBytes = actual.getSpilledBytes();
+        assertTrue(spilledBytes > 0L);
+        actual.add(new MemoryQueryResultRow(new Object[]{4, "name_4", new StringBuilder("foo")}));
+        actual.add(new MemoryQueryResultRow(new Object[]{1, "name_1"}));
+        assertThat(actual.spill(), is(0L));
+        assertThat(actual.getSpilledBytes(), is(spilledBytes));
+        assertThat(getIds(actual), is(Arrays.asList(1, 3, 4, 5)));
+    }
+    
+    @Test
+    void assertSpillEmptyRows() throws SQLException {
+        SpillableMemoryQueryResultRows actual = new SpillableMemoryQueryResultRows(new MemoryMergeBudget(1L), comparator);
+        assertThat(actual.spill(), is(0L));
+        assertTrue(actual.isEmpty());
+        assertFalse(actual.iterator().hasNext());
+    }
+    
+    @Test
+    void assertIterateWithSpilledAndBufferedRows() throws SQLException {
+        MemoryMergeBudget budget = new MemoryMergeBudget(Long.MAX_VALUE);
+        SpillableMemoryQueryResultRows actual = createRows(budget, 4, 2);
+        assertTrue(actual.spill() > 0L);
+        actual.add(new MemoryQueryResultRow(new Object[]{3, "name_3"}));
+        actual.add(new MemoryQueryResultRow(new Object[]{1, "name_1"}));
+        assertThat(getIds(actual), is(Arrays.asList(1, 2, 3, 4)));
+    }
+    
+    @Test
+    void assertCloseBeforeIterated() throws SQLException, IOException {
+        Collection<Path> originalSpillFiles = getSpillFiles();
+        MemoryMergeBudget budget = new MemoryMergeBudget(Long.MAX_VALUE);
+        SpillableMemoryQueryResultRows actual = createRows(budget, 4, 2);
+        assertTrue(actual.spill() > 0L);
+        actual.add(new MemoryQueryResultRow(new Object[]{3, "name_3"}));
+        Collection<Path> spillFiles = getSpillFiles();
+        spillFiles.removeAll(originalSpillFiles);
+        assertFalse(spillFiles.isEmpty());
+        Iterator<MemoryQueryResultRow> iterator = actual.iterator();
+        assertThat(iterator.next().getCell(1), is(2));
+        actual.close();
+        assertTrue(spillFiles.stream().noneMatch(Files::exists));
+        assertThat(budget.getUsedBytes(), is(0L));
+    }
+    
+    private Collection<Path> getSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-merge-")).collect(Collectors.toSet());
+        }
+    }
+    
+    private SpillableMemoryQueryResultRows createRows(final MemoryMergeBudget budget, final int... ids) throws SQLException {
+        SpillableMemoryQueryResultRows result = new SpillableMemoryQueryResultRows(budget, comparator);
+        for (int each : ids) {
+            result.add(new MemoryQueryResultRow(new Object[]{each, "name_" + each}));
+        }
+        return result;
+    }
+    
+    private List<Integer> getIds(final SpillableMemoryQueryResultRows rows) {
+        List<Integer> result = new ArrayList<>();
+        for (MemoryQueryResultRow each : rows) {
+            assertThat(each.getCell(2), is("name_" + each.getCell(1)));
+            result.add((Integer) each.getCell(1));
+        }
+        return result;
+    }
+}
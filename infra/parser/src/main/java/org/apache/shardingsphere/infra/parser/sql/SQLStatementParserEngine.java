@@ -26,6 +26,12 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 /**
  * SQL statement parser engine.
+ * 
+ * <p>
+ * SQL statements are cached by the original SQL text. SQL which only differs in literals is not normalized to share one cached statement,
+ * because segments keep start and stop indexes into the original SQL which SQL rewrite relies on.
+ * Such SQL still skips the failing SLL parse phase once its shape is known to require LL prediction, see {@code SQLParserExecutor}.
+ * </p>
  */
 public final class SQLStatementParserEngine {
     
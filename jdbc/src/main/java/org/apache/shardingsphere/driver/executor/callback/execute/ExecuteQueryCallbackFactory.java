@@ -41,9 +41,9 @@ public final class ExecuteQueryCallbackFactory {
      */
     public ExecuteQueryCallback newInstance(final ShardingSphereDatabase database, final QueryContext queryContext) {
         return JDBCDriverType.STATEMENT.equals(jdbcDriverType)
-                ? new StatementExecuteQueryCallback(database.getProtocolType(), database.getResourceMetaData(),
+                ? new StatementExecuteQueryCallback(database.getProtocolType(), database.getName(), database.getResourceMetaData(),
                         queryContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown())
-                : new PreparedStatementExecuteQueryCallback(database.getProtocolType(), database.getResourceMetaData(),
+                : new PreparedStatementExecuteQueryCallback(database.getProtocolType(), database.getName(), database.getResourceMetaData(),
                         queryContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
     }
 }
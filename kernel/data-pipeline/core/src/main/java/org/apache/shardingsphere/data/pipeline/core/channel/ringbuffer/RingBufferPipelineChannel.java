@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ring buffer pipeline channel.
+ * 
+ * <p>Slots are pre-allocated and addressed by sequence. Producers wait until a slot is free before claiming its sequence and publish records into the claimed slot,
+ * so an interrupted producer never leaves a claimed slot unpublished. The single consumer drains published slots in sequence order.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final AtomicReferenceArray<List<Record>> slots;
+    
+    @Getter
+    private final int capacity;
+    
+    private final int mask;
+    
+    private final RingBufferWaitStrategy waitStrategy;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private final AtomicLong claimSequence = new AtomicLong();
+    
+    private final AtomicLong consumeSequence = new AtomicLong();
+    
+    private final AtomicLong pushedRecordsCount = new AtomicLong();
+    
+    private final AtomicLong fetchedRecordsCount = new AtomicLong();
+    
+    public RingBufferPipelineChannel(final int bufferSize, final RingBufferWaitStrategy waitStrategy, final PipelineChannelAckCallback ackCallback) {
+        capacity = toPowerOfTwo(bufferSize);
+        mask = capacity - 1;
+        slots = new AtomicReferenceArray<>(capacity);
+        this.waitStrategy = waitStrategy;
+        this.ackCallback = ackCallback;
+    }
+    
+    private static int toPowerOfTwo(final int bufferSize) {
+        return bufferSize <= 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        long sequence;
+        do {
+            sequence = claimSequence.get();
+            while (sequence - capacity >= consumeSequence.get()) {
+                waitStrategy.idle();
+                sequence = claimSequence.get();
+            }
+        } while (!claimSequence.compareAndSet(sequence, sequence + 1L));
+        slots.set((int) sequence & mask, records);
+        pushedRecordsCount.addAndGet(records.size());
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = new ArrayList<>();
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int recordsCount = 0;
+        do {
+            List<Record> records = take();
+            if (null == records) {
+                if (System.nanoTime() - deadlineNanos >= 0L) {
+                    break;
+                }
+                waitStrategy.idle();
+                continue;
+            }
+            recordsCount += records.size();
+            result.addAll(records);
+        } while (recordsCount < batchSize && System.nanoTime() - deadlineNanos < 0L);
+        return result;
+    }
+    
+    private List<Record> take() {
+        long sequence = consumeSequence.get();
+        int index = (int) sequence & mask;
+        List<Record> result = slots.get(index);
+        if (null == result) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        consumeSequence.lazySet(sequence + 1L);
+        fetchedRecordsCount.lazySet(fetchedRecordsCount.get() + result.size());
+        return result;
+    }
+    
+    @Override
+    public List<Record> peek() {
+        List<Record> result = slots.get((int) consumeSequence.get() & mask);
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public List<Record> poll() {
+        List<Record> result = take();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    /**
+     * Get occupancy, the count of claimed slots which are not consumed yet.
+     *
+     * @return occupancy
+     */
+    public int getOccupancy() {
+        long result = claimSequence.get() - consumeSequence.get();
+        return (int) Math.max(0L, Math.min(capacity, result));
+    }
+    
+    /**
+     * Get pushed records count.
+     *
+     * @return pushed records count
+     */
+    public long getPushedRecordsCount() {
+        return pushedRecordsCount.get();
+    }
+    
+    /**
+     * Get fetched records count.
+     *
+     * @return fetched records count
+     */
+    public long getFetchedRecordsCount() {
+        return fetchedRecordsCount.get();
+    }
+}
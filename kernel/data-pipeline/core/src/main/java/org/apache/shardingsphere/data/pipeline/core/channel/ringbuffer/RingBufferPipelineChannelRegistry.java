@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ring buffer pipeline channel registry, which is used to expose metrics of channels.
+ * 
+ * <p>Channels are weakly referenced, so they are unregistered once their pipeline tasks are released.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RingBufferPipelineChannelRegistry {
+    
+    private static final RingBufferPipelineChannelRegistry INSTANCE = new RingBufferPipelineChannelRegistry();
+    
+    private final AtomicLong nameSequence = new AtomicLong();
+    
+    private final Map<RingBufferPipelineChannel, String> channels = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    /**
+     * Get instance of ring buffer pipeline channel registry.
+     *
+     * @return got instance
+     */
+    public static RingBufferPipelineChannelRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register channel.
+     *
+     * @param channel ring buffer pipeline channel
+     * @return registered channel name
+     */
+    public String register(final RingBufferPipelineChannel channel) {
+        String result = "ring-buffer-" + nameSequence.incrementAndGet();
+        channels.put(channel, result);
+        return result;
+    }
+    
+    /**
+     * Get registered channels.
+     *
+     * @return registered channels, key is channel name
+     */
+    public Map<String, RingBufferPipelineChannel> getChannels() {
+        Map<String, RingBufferPipelineChannel> result = new LinkedHashMap<>();
+        synchronized (channels) {
+            for (Entry<RingBufferPipelineChannel, String> entry : channels.entrySet()) {
+                result.put(entry.getValue(), entry.getKey());
+            }
+        }
+        return result;
+    }
+}
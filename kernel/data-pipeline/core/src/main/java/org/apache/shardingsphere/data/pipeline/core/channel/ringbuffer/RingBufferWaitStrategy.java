@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer wait strategy.
+ */
+public enum RingBufferWaitStrategy {
+    
+    /**
+     * Busy spin, lowest latency and highest CPU usage.
+     */
+    SPIN {
+        
+        @Override
+        void doIdle() {
+        }
+    },
+    
+    /**
+     * Yield current thread to other runnable threads.
+     */
+    YIELD {
+        
+        @Override
+        void doIdle() {
+            Thread.yield();
+        }
+    },
+    
+    /**
+     * Park current thread for a short time.
+     */
+    PARK {
+        
+        @Override
+        void doIdle() {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    };
+    
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
+    /**
+     * Idle while waiting for the ring buffer.
+     *
+     * @throws InterruptedException interrupted exception
+     */
+    public void idle() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        doIdle();
+    }
+    
+    abstract void doIdle();
+}
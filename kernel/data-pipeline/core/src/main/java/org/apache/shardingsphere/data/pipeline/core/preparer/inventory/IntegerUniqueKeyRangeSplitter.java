@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.preparer.inventory;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.Range;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Integer unique key range splitter.
+ * <p>
+ * Records density is estimated by a bounded number of probes, each probe samples at most sample size unique key values from a probe point.
+ * Split boundaries are placed by the estimated cumulative records count, so split ranges hold about sharding size records each even if unique key values are skewed.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class IntegerUniqueKeyRangeSplitter {
+    
+    private static final int PROBES_PER_SPLIT = 4;
+    
+    private static final int MAX_PROBES_COUNT = 256;
+    
+    private final long shardingSize;
+    
+    private final int sampleSize;
+    
+    private final LongFunction<List<Long>> sampler;
+    
+    /**
+     * Split unique key values range.
+     *
+     * @param uniqueKeyValuesRange unique key values range
+     * @param tableRecordsCount table records count
+     * @return split ranges
+     */
+    public List<Range<Long>> split(final Range<Long> uniqueKeyValuesRange, final long tableRecordsCount) {
+        long splitCount = tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0L ? 1L : 0L);
+        long minimum = uniqueKeyValuesRange.getMinimum();
+        long maximum = uniqueKeyValuesRange.getMaximum();
+        double width = (double) maximum - minimum + 1D;
+        if (splitCount <= 1L || width <= 1D) {
+            return Collections.singletonList(uniqueKeyValuesRange);
+        }
+        int probesCount = (int) Math.min(Math.min(MAX_PROBES_COUNT, splitCount * PROBES_PER_SPLIT), width);
+        long[] segmentMinimums = new long[probesCount + 1];
+        for (int i = 0; i < probesCount; i++) {
+            segmentMinimums[i] = minimum + (long) (width * i / probesCount);
+        }
+        segmentMinimums[probesCount] = maximum + 1L;
+        double[] estimatedCounts = new double[probesCount];
+        double estimatedTotalCount = 0D;
+        for (int i = 0; i < probesCount; i++) {
+            estimatedCounts[i] = estimateRecordsCount(sampler.apply(segmentMinimums[i]), segmentMinimums[i], segmentMinimums[i + 1] - 1L);
+            estimatedTotalCount += estimatedCounts[i];
+        }
+        double scale = estimatedTotalCount > 0D ? tableRecordsCount / estimatedTotalCount : 0D;
+        List<Range<Long>> result = new LinkedList<>();
+        long rangeMinimum = minimum;
+        double pendingCount = 0D;
+        for (int i = 0; i < probesCount; i++) {
+            long segmentMinimum = segmentMinimums[i];
+            long segmentMaximum = segmentMinimums[i + 1] - 1L;
+            double segmentCount = estimatedCounts[i] * scale;
+            while (segmentCount > 0D && pendingCount + segmentCount >= shardingSize && segmentMinimum <= segmentMaximum) {
+                double segmentWidth = (double) segmentMaximum - segmentMinimum + 1D;
+                long rangeMaximum = Math.min(segmentMaximum, Math.max(segmentMinimum, segmentMinimum + (long) Math.ceil(segmentWidth * (shardingSize - pendingCount) / segmentCount) - 1L));
+                result.add(Range.between(rangeMinimum, rangeMaximum));
+                segmentCount -= segmentCount * ((double) rangeMaximum - segmentMinimum + 1D) / segmentWidth;
+                segmentMinimum = rangeMaximum + 1L;
+                rangeMinimum = segmentMinimum;
+                pendingCount = 0D;
+            }
+            pendingCount += segmentCount;
+        }
+        if (rangeMinimum <= maximum) {
+            if (result.isEmpty() || pendingCount * 2D >= shardingSize) {
+                result.add(Range.between(rangeMinimum, maximum));
+            } else {
+                result.add(Range.between(result.remove(result.size() - 1).getMinimum(), maximum));
+            }
+        }
+        return result;
+    }
+    
+    private double estimateRecordsCount(final List<Long> samples, final long segmentMinimum, final long segmentMaximum) {
+        int inSegmentCount = 0;
+        for (long each : samples) {
+            if (each > segmentMaximum) {
+                break;
+            }
+            inSegmentCount++;
+        }
+        if (inSegmentCount < samples.size() || samples.size() < sampleSize) {
+            return inSegmentCount;
+        }
+        double sampledWidth = (double) samples.get(samples.size() - 1) - segmentMinimum + 1D;
+        return inSegmentCount * (((double) segmentMaximum - segmentMinimum + 1D) / sampledWidth);
+    }
+}
@@ -44,14 +44,15 @@ import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgori
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
 import org.apache.shardingsphere.data.pipeline.core.task.PipelineTaskUtils;
-import org.apache.shardingsphere.data.pipeline.core.util.IntervalToRangeIterator;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -65,6 +66,8 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final int UNIQUE_KEY_SAMPLE_SIZE = 64;
+    
     private final PipelineDataSourceWrapper sourceDataSource;
     
     private final InventoryDumperContext dumperContext;
@@ -189,12 +192,44 @@ public final class InventoryTaskSplitter {
         Collection<IngestPosition> result = new LinkedList<>();
         Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dataSource, dumperContext);
         int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
-        long splitCount = tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0L ? 1 : 0);
-        long interval = (uniqueKeyValuesRange.getMaximum() - uniqueKeyValuesRange.getMinimum()) / splitCount;
-        IntervalToRangeIterator rangeIterator = new IntervalToRangeIterator(uniqueKeyValuesRange.getMinimum(), uniqueKeyValuesRange.getMaximum(), interval);
-        while (rangeIterator.hasNext()) {
-            Range<Long> range = rangeIterator.next();
-            result.add(new IntegerPrimaryKeyIngestPosition(range.getMinimum(), range.getMaximum()));
+        for (Range<Long> each : splitUniqueKeyValuesRange(jobItemContext, dataSource, dumperContext, uniqueKeyValuesRange, tableRecordsCount, shardingSize)) {
+            result.add(new IntegerPrimaryKeyIngestPosition(each.getMinimum(), each.getMaximum()));
+        }
+        return result;
+    }
+    
+    private List<Range<Long>> splitUniqueKeyValuesRange(final TransmissionJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperContext dumperContext,
+                                                        final Range<Long> uniqueKeyValuesRange, final long tableRecordsCount, final int shardingSize) {
+        if (tableRecordsCount <= shardingSize) {
+            return Collections.singletonList(uniqueKeyValuesRange);
+        }
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        String sql = pipelineSQLBuilder.buildUniqueKeySampleSQL(
+                dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName()), dumperContext.getActualTableName(), uniqueKey, UNIQUE_KEY_SAMPLE_SIZE);
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setMaxRows(UNIQUE_KEY_SAMPLE_SIZE);
+            preparedStatement.setFetchSize(UNIQUE_KEY_SAMPLE_SIZE);
+            return new IntegerUniqueKeyRangeSplitter(shardingSize, UNIQUE_KEY_SAMPLE_SIZE, minimum -> sampleUniqueKeyValues(preparedStatement, minimum, dumperContext.getActualTableName(), uniqueKey))
+                    .split(uniqueKeyValuesRange, tableRecordsCount);
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+    }
+    
+    private List<Long> sampleUniqueKeyValues(final PreparedStatement preparedStatement, final long minimum, final String actualTableName, final String uniqueKey) {
+        List<Long> result = new ArrayList<>(UNIQUE_KEY_SAMPLE_SIZE);
+        try {
+            preparedStatement.setLong(1, minimum);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (result.size() < UNIQUE_KEY_SAMPLE_SIZE && resultSet.next()) {
+                    result.add(resultSet.getLong(1));
+                }
+            }
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(actualTableName, uniqueKey, ex);
         }
         return result;
     }
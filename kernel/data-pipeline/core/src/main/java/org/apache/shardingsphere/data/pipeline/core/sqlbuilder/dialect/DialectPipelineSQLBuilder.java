@@ -58,6 +58,16 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
      */
     String buildCheckEmptyTableSQL(String qualifiedTableName);
     
+    /**
+     * Build limit clause.
+     *
+     * @param rowCount row count
+     * @return built SQL clause
+     */
+    default Optional<String> buildLimitClause(final int rowCount) {
+        return Optional.empty();
+    }
+    
     /**
      * Build estimated count SQL.
      *
@@ -94,6 +94,21 @@ public final class PipelinePrepareSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build unique key sample SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param sampleSize sample size
+     * @return unique key sample SQL
+     */
+    public String buildUniqueKeySampleSQL(final String schemaName, final String tableName, final String uniqueKey, final int sampleSize) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        String result = String.format("SELECT %s FROM %s WHERE %s>=? ORDER BY %s ASC", escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedUniqueKey, escapedUniqueKey);
+        return dialectSQLBuilder.buildLimitClause(sampleSize).map(optional -> result + " " + optional).orElse(result);
+    }
+    
     /**
      * Build check empty table SQL.
      *
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertCapacityRoundedToPowerOfTwo() {
+        assertThat(new RingBufferPipelineChannel(0, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>())).getCapacity(), is(1));
+        assertThat(new RingBufferPipelineChannel(2, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>())).getCapacity(), is(2));
+        assertThat(new RingBufferPipelineChannel(5, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>())).getCapacity(), is(8));
+    }
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.SPIN, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.getOccupancy(), is(1));
+        assertThat(channel.fetch(10, 0L), is(records));
+        assertThat(channel.getOccupancy(), is(0));
+        assertThat(channel.getPushedRecordsCount(), is(1L));
+        assertThat(channel.getFetchedRecordsCount(), is(1L));
+    }
+    
+    @Test
+    void assertFetchMultipleBatches() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, RingBufferWaitStrategy.YIELD, new InventoryTaskAckCallback(new AtomicReference<>()));
+        Record record1 = new PlaceholderRecord(new IngestFinishedPosition());
+        Record record2 = new PlaceholderRecord(new IngestFinishedPosition());
+        channel.push(Collections.singletonList(record1));
+        channel.push(Collections.singletonList(record2));
+        assertThat(channel.fetch(2, 100L), is(Arrays.asList(record1, record2)));
+    }
+    
+    @Test
+    void assertPeekAndPoll() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertTrue(channel.peek().isEmpty());
+        assertTrue(channel.poll().isEmpty());
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertTrue(channel.peek().isEmpty());
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Test
+    void assertPushWaitsUntilSlotConsumed() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records1 = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        List<Record> records2 = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records1);
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            channel.push(records2);
+            latch.countDown();
+        });
+        thread.start();
+        assertThat(channel.fetch(1, 500L), is(records1));
+        assertThat(channel.fetch(1, 500L), is(records2));
+        assertTrue(latch.await(1L, TimeUnit.SECONDS));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Test
+    void assertInterruptedPushNotClaimSlot() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, RingBufferWaitStrategy.PARK, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records1 = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        List<Record> records2 = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records1);
+        AtomicReference<Throwable> pushFailure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+                // CHECKSTYLE:OFF
+            } catch (final Throwable ex) {
+                // CHECKSTYLE:ON
+                pushFailure.set(ex);
+            }
+        });
+        thread.start();
+        thread.interrupt();
+        thread.join(1000L);
+        assertThat(pushFailure.get(), instanceOf(InterruptedException.class));
+        assertThat(channel.fetch(1, 100L), is(records1));
+        channel.push(records2);
+        assertThat(channel.fetch(1, 100L), is(records2));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.preparer.inventory;
+
+import org.apache.commons.lang3.Range;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntegerUniqueKeyRangeSplitterTest {
+    
+    @Test
+    void assertSplitUniformDistribution() {
+        List<Range<Long>> actual = new IntegerUniqueKeyRangeSplitter(10L, 5, createSampler(LongStream.rangeClosed(1L, 100L).boxed().collect(Collectors.toList()), 5))
+                .split(Range.between(1L, 100L), 100L);
+        assertThat(actual.size(), is(10));
+        assertThat(actual.get(0), is(Range.between(1L, 10L)));
+        assertThat(actual.get(9), is(Range.between(91L, 100L)));
+    }
+    
+    @Test
+    void assertSplitSkewedDistribution() {
+        List<Long> keys = LongStream.rangeClosed(1L, 40L).boxed().collect(Collectors.toList());
+        keys.add(1000L);
+        List<Range<Long>> actual = new IntegerUniqueKeyRangeSplitter(10L, 50, createSampler(keys, 50)).split(Range.between(1L, 1000L), 41L);
+        assertThat(actual, is(Arrays.asList(Range.between(1L, 13L), Range.between(14L, 26L), Range.between(27L, 39L), Range.between(40L, 1000L))));
+    }
+    
+    @Test
+    void assertSplitWithBoundedProbes() {
+        AtomicInteger probesCount = new AtomicInteger();
+        LongFunction<List<Long>> sampler = createSampler(LongStream.rangeClosed(1L, 100000L).boxed().collect(Collectors.toList()), 10);
+        List<Range<Long>> actual = new IntegerUniqueKeyRangeSplitter(10L, 10, minimum -> {
+            probesCount.incrementAndGet();
+            return sampler.apply(minimum);
+        }).split(Range.between(1L, 100000L), 100000L);
+        assertThat(actual.size(), is(10000));
+        assertThat(actual.get(0).getMinimum(), is(1L));
+        assertThat(actual.get(actual.size() - 1).getMaximum(), is(100000L));
+        assertTrue(probesCount.get() <= 256);
+    }
+    
+    @Test
+    void assertSplitWithSingleSplit() {
+        assertThat(new IntegerUniqueKeyRangeSplitter(10L, 10, minimum -> Collections.emptyList()).split(Range.between(1L, 100L), 5L), is(Collections.singletonList(Range.between(1L, 100L))));
+    }
+    
+    private LongFunction<List<Long>> createSampler(final List<Long> keys, final int sampleSize) {
+        return minimum -> keys.stream().filter(each -> each >= minimum).limit(sampleSize).collect(Collectors.toList());
+    }
+}
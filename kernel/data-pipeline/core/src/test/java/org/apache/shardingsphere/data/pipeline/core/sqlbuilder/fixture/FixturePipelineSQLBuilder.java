@@ -31,6 +31,11 @@ public final class FixturePipelineSQLBuilder implements DialectPipelineSQLBuilde
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
     }
     
+    @Override
+    public Optional<String> buildLimitClause(final int rowCount) {
+        return Optional.of("LIMIT " + rowCount);
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", columnName, qualifiedTableName));
@@ -54,6 +54,11 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
     }
     
+    @Override
+    public Optional<String> buildLimitClause(final int rowCount) {
+        return Optional.of("LIMIT " + rowCount);
+    }
+    
     @Override
     public Optional<String> buildEstimatedCountSQL(final String qualifiedTableName) {
         return Optional.of(String.format("SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = '%s'", qualifiedTableName));
@@ -46,6 +46,13 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    void assertBuildLimitClause() {
+        Optional<String> actual = sqlBuilder.buildLimitClause(64);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("LIMIT 64"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, tableName, new IngestPlaceholderPosition(), 4);
         result.addColumn(new Column("id", "", false, true));
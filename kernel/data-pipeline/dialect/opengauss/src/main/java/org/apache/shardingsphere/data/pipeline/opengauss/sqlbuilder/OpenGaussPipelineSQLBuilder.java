@@ -57,6 +57,11 @@ public final class OpenGaussPipelineSQLBuilder implements DialectPipelineSQLBuil
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
     }
     
+    @Override
+    public Optional<String> buildLimitClause(final int rowCount) {
+        return Optional.of("LIMIT " + rowCount);
+    }
+    
     @Override
     public Optional<String> buildEstimatedCountSQL(final String qualifiedTableName) {
         return Optional.of(String.format("SELECT reltuples::integer FROM pg_class WHERE oid='%s'::regclass::oid;", qualifiedTableName));
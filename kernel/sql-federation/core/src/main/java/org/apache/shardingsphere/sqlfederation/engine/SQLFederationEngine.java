@@ -65,6 +65,8 @@ import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFede
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationTableRowCountLoader;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
@@ -79,6 +81,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 
 /**
  * SQL federation engine.
@@ -198,11 +201,12 @@ public final class SQLFederationEngine implements AutoCloseable {
                                                     final SqlToRelConverter converter) {
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         ShardingSpherePreconditions.checkState(sqlStatementContext instanceof SelectStatementContext, () -> new IllegalArgumentException("SQL statement context must be select statement context."));
-        registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext(), databaseName, schemaName);
+        Map<String, Double> rowCounts = SQLFederationTableRowCountLoader.load(statistics, databaseName);
+        registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext(), databaseName, schemaName, rowCounts);
         SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter);
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
         // TODO open useCache flag when ShardingSphereTable contains version
-        return compilerEngine.compile(buildCacheKey(federationContext, (SelectStatementContext) sqlStatementContext, sqlStatementCompiler, databaseName, schemaName), false);
+        return compilerEngine.compile(buildCacheKey(federationContext, (SelectStatementContext) sqlStatementContext, sqlStatementCompiler, databaseName, schemaName, rowCounts), false);
     }
     
     @SuppressWarnings("unchecked")
@@ -220,7 +224,7 @@ public final class SQLFederationEngine implements AutoCloseable {
     }
     
     private ExecutionPlanCacheKey buildCacheKey(final SQLFederationContext federationContext, final SelectStatementContext selectStatementContext,
-                                                final SQLStatementCompiler sqlStatementCompiler, final String databaseName, final String schemaName) {
+                                                final SQLStatementCompiler sqlStatementCompiler, final String databaseName, final String schemaName, final Map<String, Double> rowCounts) {
         ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
         ExecutionPlanCacheKey result =
                 new ExecutionPlanCacheKey(federationContext.getQueryContext().getSql(), selectStatementContext.getSqlStatement(), selectStatementContext.getDatabaseType().getType(),
@@ -230,13 +234,14 @@ public final class SQLFederationEngine implements AutoCloseable {
             ShardingSpherePreconditions.checkNotNull(table, () -> new NoSuchTableException(each));
             // TODO replace DEFAULT_METADATA_VERSION with actual version in ShardingSphereTable
             result.getTableMetaDataVersions().put(table.getName(), DEFAULT_METADATA_VERSION);
+            result.getTableRowCounts().put(table.getName(), rowCounts.get(table.getName()));
         }
         return result;
     }
     
     private void registerTableScanExecutor(final Schema sqlFederationSchema, final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                                            final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationContext federationContext,
-                                           final OptimizerContext optimizerContext, final String databaseName, final String schemaName) {
+                                           final OptimizerContext optimizerContext, final String databaseName, final String schemaName, final Map<String, Double> rowCounts) {
         if (null == sqlFederationSchema) {
             return;
         }
@@ -248,10 +253,17 @@ public final class SQLFederationEngine implements AutoCloseable {
             Table table = sqlFederationSchema.getTable(each.getName());
             if (table instanceof SQLFederationTable) {
                 ((SQLFederationTable) table).setScanExecutor(scanExecutor);
+                refreshRowCount(((SQLFederationTable) table).getStatistic(), rowCounts.get(each.getName()));
             }
         }
     }
     
+    private void refreshRowCount(final SQLFederationStatistic statistic, final Double rowCount) {
+        if (!Objects.equals(statistic.getRowCount(), rowCount)) {
+            statistic.setRowCount(rowCount);
+        }
+    }
+    
     private Map<String, Object> createParameters(final List<Object> params) {
         Map<String, Object> result = new HashMap<>(params.size(), 1F);
         int index = 0;
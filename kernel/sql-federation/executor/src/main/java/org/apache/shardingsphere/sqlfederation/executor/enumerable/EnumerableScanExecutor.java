@@ -119,10 +119,11 @@ public final class EnumerableScanExecutor implements ScanExecutor {
             federationContext.getPreviewExecutionUnits().addAll(executionContext.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return createJDBCEnumerable(queryContext, database, executionContext);
+        return createJDBCEnumerable(queryContext, database, executionContext, scanContext);
     }
     
-    private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
+    private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context,
+                                                          final ScanExecutorContext scanContext) {
         return new AbstractEnumerable<Object>() {
             
             @SneakyThrows
@@ -140,7 +141,7 @@ public final class EnumerableScanExecutor implements ScanExecutor {
                 MergeEngine mergeEngine = new MergeEngine(federationContext.getMetaData().getGlobalRuleMetaData(), database, executorContext.getProps(), new ConnectionContext());
                 MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
                 Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                return new JDBCRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements, scanContext.getColumnTypes());
             }
         };
     }
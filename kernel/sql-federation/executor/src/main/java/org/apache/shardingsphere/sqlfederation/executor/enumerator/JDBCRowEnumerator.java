@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
 
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
@@ -43,6 +44,8 @@ public final class JDBCRowEnumerator implements Enumerator<Object> {
     
     private final Collection<Statement> statements;
     
+    private final Class<?>[] columnTypes;
+    
     private Object currentRow;
     
     @Override
@@ -65,16 +68,32 @@ public final class JDBCRowEnumerator implements Enumerator<Object> {
     }
     
     private void setCurrentRow() throws SQLException {
-        Object[] rowValues = new Object[metaData.getColumnCount()];
-        for (int i = 0; i < metaData.getColumnCount(); i++) {
+        int columnCount = getColumnCount();
+        Object[] rowValues = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
             rowValues[i] = getValue(i);
         }
-        currentRow = 1 == metaData.getColumnCount() ? rowValues[0] : rowValues;
+        currentRow = 1 == columnCount ? rowValues[0] : rowValues;
+    }
+    
+    private int getColumnCount() throws SQLException {
+        return null == columnTypes ? metaData.getColumnCount() : Math.min(metaData.getColumnCount(), columnTypes.length);
     }
     
     private Object getValue(final int index) throws SQLException {
         Object result = queryResult.getValue(index + 1, Object.class);
-        return result instanceof LocalDateTime ? ResultSetUtils.convertValue(result, Timestamp.class) : result;
+        if (result instanceof LocalDateTime) {
+            return ResultSetUtils.convertValue(result, Timestamp.class);
+        }
+        return null == result || null == columnTypes || columnTypes[index].isInstance(result) ? result : convertValue(result, columnTypes[index]);
+    }
+    
+    private Object convertValue(final Object value, final Class<?> columnType) {
+        try {
+            return ResultSetUtils.convertValue(value, columnType);
+        } catch (final SQLFeatureNotSupportedException ex) {
+            return value;
+        }
     }
     
     @Override
@@ -41,12 +41,12 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ModifiableTable;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.schema.Schemas;
-import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.table.TablePushDownRuleAttribute;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
@@ -70,6 +70,8 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
     
     private final DatabaseType protocolType;
     
+    private final Collection<TablePushDownRuleAttribute> pushDownRuleAttributes;
+    
     @Setter
     private ScanExecutor scanExecutor;
     
@@ -98,19 +100,51 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return LogicalTableScan.create(context.getCluster(), relOptTable, Collections.emptyList());
     }
     
+    /**
+     * Judge whether aggregations, sorts and limits on table can be pushed down to data nodes or not.
+     *
+     * @return can be pushed down or not
+     */
+    public boolean isMergeable() {
+        for (TablePushDownRuleAttribute each : pushDownRuleAttributes) {
+            if (each.isMergeable(table.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Judge whether equi-join with other table is co-located in data nodes or not.
+     *
+     * @param columnNames join column names of current table
+     * @param otherTable other table
+     * @param otherColumnNames join column names of other table
+     * @return co-located or not
+     */
+    public boolean isColocated(final List<String> columnNames, final SQLFederationTable otherTable, final List<String> otherColumnNames) {
+        for (TablePushDownRuleAttribute each : pushDownRuleAttributes) {
+            if (each.isColocated(table.getName(), columnNames, otherTable.table.getName(), otherColumnNames)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Execute.
      *
      * @param root data context
      * @param sql sql
      * @param paramIndexes param indexes
+     * @param columnTypes column types
      * @return enumerable result
      */
-    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes) {
+    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes, final Class<?>[] columnTypes) {
         if (null == scanExecutor) {
             return createEmptyEnumerable();
         }
-        return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes));
+        return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes, columnTypes));
     }
     
     private AbstractEnumerable<Object> createEmptyEnumerable() {
@@ -129,7 +163,7 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
     }
     
     @Override
-    public Statistic getStatistic() {
+    public SQLFederationStatistic getStatistic() {
         return statistic;
     }
     
@@ -33,4 +33,6 @@ public final class ScanExecutorContext {
     private final String sql;
     
     private final int[] paramIndexes;
+    
+    private final Class<?>[] columnTypes;
 }
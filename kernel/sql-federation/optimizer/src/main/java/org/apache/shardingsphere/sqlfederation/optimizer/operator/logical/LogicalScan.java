@@ -17,15 +17,21 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.operator.logical;
 
+import com.cedarsoftware.util.CaseInsensitiveSet;
 import lombok.Getter;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
 import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalJoin;
 import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
 import org.apache.calcite.rel.logical.LogicalTableScan;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanPushDownRelBuilder;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
 
@@ -35,6 +41,8 @@ import java.util.Objects;
 @Getter
 public final class LogicalScan extends TableScan {
     
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
     private final LogicalScanPushDownRelBuilder pushDownRelBuilder;
     
     private final String databaseType;
@@ -71,6 +79,73 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down logical join with right logical scan.
+     *
+     * @param logicalJoin logical join
+     * @param rightLogicalScan right logical scan
+     */
+    public void pushDown(final LogicalJoin logicalJoin, final LogicalScan rightLogicalScan) {
+        pushDownRelBuilder.push(logicalJoin.copy(logicalJoin.getTraitSet(), Arrays.asList(pushDownRelBuilder.build(), rightLogicalScan.peek())));
+        resetRowType(logicalJoin);
+    }
+    
+    /**
+     * Push down logical aggregate.
+     *
+     * @param logicalAggregate logical aggregate
+     */
+    public void pushDown(final LogicalAggregate logicalAggregate) {
+        pushDownRelBuilder.push(logicalAggregate.copy(logicalAggregate.getTraitSet(), Collections.singletonList(pushDownRelBuilder.build())));
+        resetRowType(logicalAggregate);
+    }
+    
+    /**
+     * Push down logical sort.
+     *
+     * @param logicalSort logical sort
+     */
+    public void pushDown(final LogicalSort logicalSort) {
+        pushDownRelBuilder.push(logicalSort.copy(logicalSort.getTraitSet(), Collections.singletonList(pushDownRelBuilder.build())));
+        resetRowType(logicalSort);
+    }
+    
+    /**
+     * Judge whether rel node with given type has been pushed down or not.
+     *
+     * @param relNodeClass rel node class
+     * @return pushed down or not
+     */
+    public boolean isPushedDown(final Class<? extends RelNode> relNodeClass) {
+        return isPushedDown(pushDownRelBuilder.peek(), relNodeClass);
+    }
+    
+    private boolean isPushedDown(final RelNode relNode, final Class<? extends RelNode> relNodeClass) {
+        if (relNodeClass.isInstance(relNode)) {
+            return true;
+        }
+        for (RelNode each : relNode.getInputs()) {
+            if (isPushedDown(each, relNodeClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Judge whether scanned table belongs to system schema or not.
+     *
+     * @return whether scanned table belongs to system schema or not
+     */
+    public boolean isSystemSchemaScan() {
+        for (String each : getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Peek rel node.
      *
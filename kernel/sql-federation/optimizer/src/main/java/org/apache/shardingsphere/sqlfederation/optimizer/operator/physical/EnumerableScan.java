@@ -87,7 +87,15 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
         PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getPushDownRowType(), pref.preferArray());
         int[] paramIndexes = null == sqlString.getDynamicParameters() ? new int[]{} : getParamIndexes(sqlString.getDynamicParameters());
         return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "execute", implementor.getRootExpression(),
-                Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes))));
+                Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes), Expressions.constant(getColumnTypes(physType)))));
+    }
+    
+    private Class<?>[] getColumnTypes(final PhysType physType) {
+        Class<?>[] result = new Class<?>[pushDownRowType.getFieldCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = physType.fieldClass(i);
+        }
+        return result;
     }
     
     private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
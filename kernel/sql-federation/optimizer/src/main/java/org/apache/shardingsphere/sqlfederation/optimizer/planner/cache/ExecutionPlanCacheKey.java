@@ -28,10 +28,12 @@ import java.util.Map;
 
 /**
  * Execution plan cache key.
+ * 
+ * <p>Row counts of tables are part of the key, so plans compiled with stale statistics are not reused after statistics refreshed.</p>
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions"})
+@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions", "tableRowCounts"})
 public final class ExecutionPlanCacheKey {
     
     // TODO replace sql with parameterized sql
@@ -44,4 +46,6 @@ public final class ExecutionPlanCacheKey {
     private final SQLStatementCompiler sqlStatementCompiler;
     
     private final Map<String, Integer> tableMetaDataVersions = new LinkedHashMap<>();
+    
+    private final Map<String, Double> tableRowCounts = new LinkedHashMap<>();
 }
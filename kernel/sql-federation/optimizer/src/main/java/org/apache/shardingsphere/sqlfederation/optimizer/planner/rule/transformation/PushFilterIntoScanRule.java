@@ -17,9 +17,10 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
 
-import com.cedarsoftware.util.CaseInsensitiveSet;
 import org.apache.calcite.plan.RelOptRuleCall;
 import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Sort;
 import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.rules.TransformationRule;
 import org.apache.calcite.rex.RexCall;
@@ -27,7 +28,6 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
 import org.immutables.value.Value;
 
-import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -36,8 +36,6 @@ import java.util.Collection;
 @Value.Enclosing
 public final class PushFilterIntoScanRule extends RelRule<PushFilterIntoScanRule.Config> implements TransformationRule {
     
-    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
-    
     private static final String CORRELATE_REFERENCE = "$cor";
     
     private PushFilterIntoScanRule(final Config config) {
@@ -47,10 +45,8 @@ public final class PushFilterIntoScanRule extends RelRule<PushFilterIntoScanRule
     @Override
     public boolean matches(final RelOptRuleCall call) {
         LogicalScan logicalScan = call.rel(1);
-        for (String each : logicalScan.getTable().getQualifiedName()) {
-            if (SYSTEM_SCHEMAS.contains(each)) {
-                return false;
-            }
+        if (logicalScan.isSystemSchemaScan() || logicalScan.isPushedDown(Aggregate.class) || logicalScan.isPushedDown(Sort.class)) {
+            return false;
         }
         LogicalFilter logicalFilter = call.rel(0);
         RexNode condition = logicalFilter.getCondition();
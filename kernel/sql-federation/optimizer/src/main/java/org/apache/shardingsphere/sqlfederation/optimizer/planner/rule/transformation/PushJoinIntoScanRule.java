@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Push join into scan rule.
+ */
+@Value.Enclosing
+public final class PushJoinIntoScanRule extends RelRule<PushJoinIntoScanRule.Config> implements TransformationRule {
+    
+    private PushJoinIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftLogicalScan = call.rel(1);
+        LogicalScan rightLogicalScan = call.rel(2);
+        if (leftLogicalScan.isSystemSchemaScan() || rightLogicalScan.isSystemSchemaScan() || JoinRelType.INNER != logicalJoin.getJoinType() && JoinRelType.LEFT != logicalJoin.getJoinType()) {
+            return false;
+        }
+        if (!isJoinOfScans(leftLogicalScan.peek()) || !(rightLogicalScan.peek() instanceof TableScan)) {
+            return false;
+        }
+        JoinInfo joinInfo = logicalJoin.analyzeCondition();
+        SQLFederationTable rightTable = rightLogicalScan.getTable().unwrap(SQLFederationTable.class);
+        return !joinInfo.leftKeys.isEmpty() && null != rightTable && isColocated(leftLogicalScan.peek(), joinInfo, rightTable, rightLogicalScan.getRowType().getFieldNames());
+    }
+    
+    private boolean isJoinOfScans(final RelNode relNode) {
+        if (relNode instanceof TableScan) {
+            return true;
+        }
+        return relNode instanceof Join && isJoinOfScans(((Join) relNode).getLeft()) && isJoinOfScans(((Join) relNode).getRight());
+    }
+    
+    private boolean isColocated(final RelNode left, final JoinInfo joinInfo, final SQLFederationTable rightTable, final List<String> rightFieldNames) {
+        Map<TableScan, List<String>> leftColumnNames = new IdentityHashMap<>();
+        Map<TableScan, List<String>> rightColumnNames = new IdentityHashMap<>();
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            Entry<TableScan, Integer> leftColumnOrigin = findColumnOrigin(left, joinInfo.leftKeys.get(i));
+            TableScan leftTableScan = leftColumnOrigin.getKey();
+            leftColumnNames.computeIfAbsent(leftTableScan, key -> new LinkedList<>()).add(leftTableScan.getRowType().getFieldNames().get(leftColumnOrigin.getValue()));
+            rightColumnNames.computeIfAbsent(leftTableScan, key -> new LinkedList<>()).add(rightFieldNames.get(joinInfo.rightKeys.get(i)));
+        }
+        for (Entry<TableScan, List<String>> entry : leftColumnNames.entrySet()) {
+            SQLFederationTable leftTable = entry.getKey().getTable().unwrap(SQLFederationTable.class);
+            if (null != leftTable && leftTable.isColocated(entry.getValue(), rightTable, rightColumnNames.get(entry.getKey()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Entry<TableScan, Integer> findColumnOrigin(final RelNode relNode, final int fieldIndex) {
+        if (relNode instanceof TableScan) {
+            return new SimpleEntry<>((TableScan) relNode, fieldIndex);
+        }
+        Join join = (Join) relNode;
+        int leftFieldCount = join.getLeft().getRowType().getFieldCount();
+        return fieldIndex < leftFieldCount ? findColumnOrigin(join.getLeft(), fieldIndex) : findColumnOrigin(join.getRight(), fieldIndex - leftFieldCount);
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan leftLogicalScan = call.rel(1);
+        LogicalScan rightLogicalScan = call.rel(2);
+        leftLogicalScan.pushDown(logicalJoin, rightLogicalScan);
+        call.transformTo(leftLogicalScan);
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushJoinIntoScanRule.Config.builder().description(PushJoinIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs(), b2 -> b2.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushJoinIntoScanRule toRule() {
+            return new PushJoinIntoScanRule(this);
+        }
+    }
+}
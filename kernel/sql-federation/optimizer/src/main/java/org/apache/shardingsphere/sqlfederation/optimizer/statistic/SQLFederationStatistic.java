@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
+import lombok.Setter;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
@@ -28,9 +29,19 @@ import java.util.List;
 
 /**
  * SQL federation statistic.
+ * 
+ * <p>Unique keys are not reported, because primary keys and unique indexes of actual tables are only unique inside each data node.</p>
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    @Setter
+    private volatile Double rowCount;
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
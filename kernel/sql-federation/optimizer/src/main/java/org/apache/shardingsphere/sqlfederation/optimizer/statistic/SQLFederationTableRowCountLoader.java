@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * SQL federation table row count loader.
+ * 
+ * <p>Row counts are summed once after rows of sharding table statistics refreshed, and reused until the version of rows changes.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationTableRowCountLoader {
+    
+    private static final String SHARDING_SPHERE = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    private static final Cache<ShardingSphereTableData, LoadedRowCounts> LOADED_ROW_COUNTS = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Load row counts of logic tables from collected sharding table statistics.
+     *
+     * @param statistics ShardingSphere statistics
+     * @param databaseName logic database name
+     * @return row counts map, key is logic table name and value is the sum of actual table row counts
+     */
+    public static Map<String, Double> load(final ShardingSphereStatistics statistics, final String databaseName) {
+        Map<String, Double> result = new CaseInsensitiveMap<>();
+        if (null == statistics) {
+            return result;
+        }
+        for (ShardingSphereDatabaseData each : statistics.getDatabaseData().values()) {
+            ShardingSphereSchemaData schemaData = each.getSchema(SHARDING_SPHERE);
+            ShardingSphereTableData tableData = null == schemaData ? null : schemaData.getTable(SHARDING_TABLE_STATISTICS);
+            if (null != tableData) {
+                for (Entry<String, Double> entry : getRowCounts(tableData).getOrDefault(databaseName, Collections.emptyMap()).entrySet()) {
+                    result.merge(entry.getKey(), entry.getValue(), Double::sum);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Map<String, Double>> getRowCounts(final ShardingSphereTableData tableData) {
+        long version = tableData.getVersion();
+        LoadedRowCounts result = LOADED_ROW_COUNTS.getIfPresent(tableData);
+        if (null == result || result.getVersion() != version) {
+            result = new LoadedRowCounts(version, loadRowCounts(tableData));
+            LOADED_ROW_COUNTS.put(tableData, result);
+        }
+        return result.getRowCounts();
+    }
+    
+    private static Map<String, Map<String, Double>> loadRowCounts(final ShardingSphereTableData tableData) {
+        Map<String, Map<String, Double>> result = new CaseInsensitiveMap<>();
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() > ROW_COUNT_INDEX && row.get(ROW_COUNT_INDEX) instanceof Number) {
+                result.computeIfAbsent(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX)), key -> new CaseInsensitiveMap<>())
+                        .merge(String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX)), ((Number) row.get(ROW_COUNT_INDEX)).doubleValue(), Double::sum);
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class LoadedRowCounts {
+        
+        private final long version;
+        
+        private final Map<String, Map<String, Double>> rowCounts;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.config.CalciteConnectionConfigImpl;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.table.TablePushDownRuleAttribute;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanRelShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PushSortIntoScanRuleTest {
+    
+    private static final String SCHEMA_NAME = "foo_db";
+    
+    private final TablePushDownRuleAttribute pushDownRuleAttribute = mock(TablePushDownRuleAttribute.class);
+    
+    private RelBuilder relBuilder;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingSphereColumn orderIdColumn = new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false);
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false);
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(orderIdColumn, userIdColumn), Collections.emptyList(), Collections.emptyList());
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        JavaTypeFactoryImpl typeFactory = new JavaTypeFactoryImpl();
+        SQLFederationSchema schema = new SQLFederationSchema(SCHEMA_NAME, new ShardingSphereSchema(Collections.singletonMap("t_order", table), Collections.emptyMap()), databaseType, typeFactory,
+                Collections.singleton(pushDownRuleAttribute));
+        RelOptCluster cluster = RelOptCluster.create(new HepPlanner(HepProgram.builder().build()), new RexBuilder(typeFactory));
+        relBuilder = RelBuilder.proto().create(cluster, SQLFederationPlannerUtils.createCatalogReader(SCHEMA_NAME, schema, typeFactory, new CalciteConnectionConfigImpl(new Properties())));
+    }
+    
+    @Test
+    void assertPushTopNSort() {
+        when(pushDownRuleAttribute.isMergeable("t_order")).thenReturn(true);
+        relBuilder.scan(SCHEMA_NAME, "t_order");
+        RelNode actual = optimize(relBuilder.sortLimit(0, 10, relBuilder.nullsFirst(relBuilder.field("order_id"))).build());
+        assertThat(actual, instanceOf(LogicalScan.class));
+        assertTrue(((LogicalScan) actual).isPushedDown(Sort.class));
+    }
+    
+    @Test
+    void assertNotPushSortWithoutFetch() {
+        when(pushDownRuleAttribute.isMergeable("t_order")).thenReturn(true);
+        relBuilder.scan(SCHEMA_NAME, "t_order");
+        assertThat(optimize(relBuilder.sort(relBuilder.nullsFirst(relBuilder.field("order_id"))).build()), instanceOf(LogicalSort.class));
+    }
+    
+    @Test
+    void assertNotPushSortWithNotNativeNullDirection() {
+        when(pushDownRuleAttribute.isMergeable("t_order")).thenReturn(true);
+        relBuilder.scan(SCHEMA_NAME, "t_order");
+        assertThat(optimize(relBuilder.sortLimit(0, 10, relBuilder.nullsLast(relBuilder.field("order_id"))).build()), instanceOf(LogicalSort.class));
+    }
+    
+    @Test
+    void assertNotPushSortOnNotMergeableTable() {
+        relBuilder.scan(SCHEMA_NAME, "t_order");
+        assertThat(optimize(relBuilder.sortLimit(0, 10, relBuilder.nullsFirst(relBuilder.field("order_id"))).build()), instanceOf(LogicalSort.class));
+    }
+    
+    private RelNode optimize(final RelNode relNode) {
+        HepPlanner hepPlanner = new HepPlanner(HepProgram.builder().addRuleInstance(PushSortIntoScanRule.Config.DEFAULT.toRule()).build());
+        hepPlanner.setRoot(LogicalScanRelShuttle.replace(relNode, "MySQL"));
+        return hepPlanner.findBestExp();
+    }
+}
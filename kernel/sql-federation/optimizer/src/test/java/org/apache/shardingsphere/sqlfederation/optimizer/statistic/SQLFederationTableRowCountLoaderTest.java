@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationTableRowCountLoaderTest {
+    
+    @Test
+    void assertLoadWithoutStatistics() {
+        assertTrue(SQLFederationTableRowCountLoader.load(null, "foo_db").isEmpty());
+        assertTrue(SQLFederationTableRowCountLoader.load(new ShardingSphereStatistics(), "foo_db").isEmpty());
+    }
+    
+    @Test
+    void assertLoad() {
+        Map<String, Double> actual = SQLFederationTableRowCountLoader.load(createStatistics(), "foo_db");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("t_order"), is(30D));
+        assertThat(actual.get("T_ORDER_ITEM"), is(5D));
+    }
+    
+    @Test
+    void assertLoadAfterStatisticsRefreshed() {
+        ShardingSphereStatistics statistics = createStatistics();
+        assertThat(SQLFederationTableRowCountLoader.load(statistics, "foo_db").get("t_order_item"), is(5D));
+        ShardingSphereTableData tableData = statistics.getDatabase("shardingsphere").getSchema("shardingsphere").getTable("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(5, "foo_db", "t_order_item", "ds_1", "t_order_item_1", new BigDecimal("7"), BigDecimal.ZERO)));
+        assertThat(SQLFederationTableRowCountLoader.load(statistics, "foo_db").get("t_order_item"), is(5D));
+        tableData.increaseVersion();
+        assertThat(SQLFederationTableRowCountLoader.load(statistics, "foo_db").get("t_order_item"), is(12D));
+    }
+    
+    private ShardingSphereStatistics createStatistics() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("10"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", new BigDecimal("20"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "foo_db", "t_order_item", "ds_0", "t_order_item_0", new BigDecimal("5"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "bar_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+}
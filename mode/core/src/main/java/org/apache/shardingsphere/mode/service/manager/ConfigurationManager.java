@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.service.manager;
 
+import com.cedarsoftware.util.CaseInsensitiveSet;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,8 @@ import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDa
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.rule.scope.DatabaseRuleConfiguration;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datasource.pool.props.domain.DataSourcePoolProperties;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -33,12 +36,20 @@ import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaDa
 import org.apache.shardingsphere.infra.metadata.database.resource.node.StorageNode;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.builder.GenericSchemaBuilderMaterial;
 import org.apache.shardingsphere.infra.metadata.database.schema.manager.GenericSchemaManager;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.IncrementalRuleBuildSupported;
 import org.apache.shardingsphere.infra.rule.PartialRuleUpdateSupported;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.MutableDataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
 import org.apache.shardingsphere.infra.rule.builder.database.DatabaseRulesBuilder;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
+import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
+import org.apache.shardingsphere.infra.rule.scope.GlobalRule.GlobalRuleChangedType;
 import org.apache.shardingsphere.infra.yaml.config.pojo.rule.YamlRuleConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.swapper.rule.YamlRuleConfigurationSwapperEngine;
 import org.apache.shardingsphere.metadata.factory.ExternalMetaDataFactory;
@@ -167,6 +178,9 @@ public final class ConfigurationManager {
             ((PartialRuleUpdateSupported) toBeChangedRule.get()).updateConfiguration(ruleConfig);
             return;
         }
+        if (toBeChangedRule.isPresent() && toBeChangedRule.get() instanceof IncrementalRuleBuildSupported && alterRuleIncrementally(database, toBeChangedRule.get(), ruleConfig)) {
+            return;
+        }
         try {
             rules.removeIf(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass()));
             rules.addAll(DatabaseRulesBuilder.build(databaseName, database.getProtocolType(), database.getRuleMetaData().getRules(),
@@ -204,6 +218,78 @@ public final class ConfigurationManager {
         }
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean alterRuleIncrementally(final ShardingSphereDatabase database, final ShardingSphereRule toBeChangedRule, final RuleConfiguration ruleConfig) {
+        Optional<ShardingSphereRule> changedRule = ((IncrementalRuleBuildSupported) toBeChangedRule).buildIncrementally(ruleConfig);
+        if (!changedRule.isPresent()) {
+            return false;
+        }
+        Collection<String> originalLogicTableNames = getLogicTableNames(toBeChangedRule);
+        Collection<String> toBeAddedTableNames = getLogicTableNames(changedRule.get()).stream().filter(each -> !originalLogicTableNames.contains(each)).collect(Collectors.toList());
+        Collection<ShardingSphereRule> changedRules = database.getRuleMetaData().getRules().stream().map(each -> each == toBeChangedRule ? changedRule.get() : each).collect(Collectors.toList());
+        ShardingSphereDatabase changedDatabase = new ShardingSphereDatabase(database.getName(), database.getProtocolType(), database.getResourceMetaData(),
+                new RuleMetaData(changedRules), newShardingSphereSchemas(database));
+        try {
+            loadToBeAddedTables(changedDatabase, changedRule.get(), toBeAddedTableNames);
+        } catch (final SQLException ex) {
+            log.error("Alter database: {} load tables {} failed", database.getName(), toBeAddedTableNames, ex);
+            return false;
+        }
+        ShardingSphereMetaData metaData = metaDataContexts.get().getMetaData();
+        metaData.getDatabases().put(database.getName().toLowerCase(), changedDatabase);
+        metaData.getGlobalRuleMetaData().getRules().forEach(each -> ((GlobalRule) each).refresh(metaData.getDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
+        return true;
+    }
+    
+    private Collection<String> getLogicTableNames(final ShardingSphereRule rule) {
+        Collection<String> result = new CaseInsensitiveSet<>();
+        rule.getAttributes().findAttribute(TableMapperRuleAttribute.class).ifPresent(optional -> result.addAll(optional.getLogicTableNames()));
+        return result;
+    }
+    
+    private void loadToBeAddedTables(final ShardingSphereDatabase database, final ShardingSphereRule changedRule, final Collection<String> toBeAddedTableNames) throws SQLException {
+        if (toBeAddedTableNames.isEmpty()) {
+            return;
+        }
+        changedRule.getAttributes().findAttribute(DataNodeRuleAttribute.class).ifPresent(optional -> removeSingleTables(database, toBeAddedTableNames.stream()
+                .flatMap(each -> optional.getDataNodesByTableName(each).stream()).map(DataNode::getTableName).collect(Collectors.toCollection(CaseInsensitiveSet::new))));
+        Collection<String> toBeLoadedTableNames = toBeAddedTableNames.stream()
+                .filter(each -> database.getSchemas().values().stream().noneMatch(schema -> schema.containsTable(each))).collect(Collectors.toList());
+        if (toBeLoadedTableNames.isEmpty()) {
+            return;
+        }
+        GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getProtocolType(), database.getResourceMetaData().getStorageUnits(),
+                database.getRuleMetaData().getRules(), metaDataContexts.get().getMetaData().getProps(), new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName()));
+        for (Entry<String, ShardingSphereSchema> entry : GenericSchemaBuilder.build(toBeLoadedTableNames, material).entrySet()) {
+            if (entry.getValue().getTables().isEmpty()) {
+                continue;
+            }
+            persistServiceFacade.getMetaDataPersistService().getDatabaseMetaDataService().persistByAlterConfiguration(database.getName(), entry.getKey(), entry.getValue());
+            if (!database.containsSchema(entry.getKey())) {
+                database.addSchema(entry.getKey(), new ShardingSphereSchema());
+            }
+            database.getSchema(entry.getKey()).putAll(entry.getValue().getTables());
+        }
+    }
+    
+    private void removeSingleTables(final ShardingSphereDatabase database, final Collection<String> actualTableNames) {
+        Collection<MutableDataNodeRuleAttribute> ruleAttributes = database.getRuleMetaData().getAttributes(MutableDataNodeRuleAttribute.class);
+        for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
+            ShardingSphereSchema toBeDeletedSchema = new ShardingSphereSchema();
+            for (String each : actualTableNames) {
+                if (ruleAttributes.stream().noneMatch(ruleAttribute -> ruleAttribute.findTableDataNode(entry.getKey(), each).isPresent())) {
+                    continue;
+                }
+                ruleAttributes.forEach(ruleAttribute -> ruleAttribute.remove(entry.getKey(), each));
+                Optional.ofNullable(entry.getValue().getTable(each)).ifPresent(optional -> toBeDeletedSchema.putTable(each, optional));
+                entry.getValue().removeTable(each);
+            }
+            if (!toBeDeletedSchema.getTables().isEmpty()) {
+                persistServiceFacade.getMetaDataPersistService().getDatabaseMetaDataService().delete(database.getName(), entry.getKey(), toBeDeletedSchema);
+            }
+        }
+    }
+    
     private void refreshMetadata(final String databaseName, final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules, final boolean isDropConfig) throws SQLException {
         database.getRuleMetaData().getRules().clear();
         database.getRuleMetaData().getRules().addAll(rules);
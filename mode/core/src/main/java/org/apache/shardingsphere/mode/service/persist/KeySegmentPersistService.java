@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.service.persist;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.metadata.persist.node.KeySegmentNode;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+
+/**
+ * Key segment persist service.
+ */
+@RequiredArgsConstructor
+public final class KeySegmentPersistService {
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Allocate key segment.
+     * 
+     * <p>The allocation reads and writes max key without lock, callers should make sure allocations of same segment are exclusive.</p>
+     *
+     * @param segmentName segment name
+     * @param step step of segment
+     * @return previous max key, keys from previous max key (exclusive) to previous max key plus step (inclusive) are allocated
+     */
+    public long allocate(final String segmentName, final long step) {
+        String path = KeySegmentNode.getKeySegmentPath(segmentName);
+        String maxKey = repository.query(path);
+        long result = Strings.isNullOrEmpty(maxKey) ? 0L : Long.parseLong(maxKey);
+        String newMaxKey = String.valueOf(result + step);
+        repository.persist(path, newMaxKey);
+        Preconditions.checkState(newMaxKey.equals(repository.query(path)), "Can not persist max key `%s` of key segment `%s`.", newMaxKey, segmentName);
+        return result;
+    }
+}
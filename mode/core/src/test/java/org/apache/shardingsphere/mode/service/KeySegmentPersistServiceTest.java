@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.service;
+
+import org.apache.shardingsphere.mode.service.persist.KeySegmentPersistService;
+import org.apache.shardingsphere.mode.spi.PersistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KeySegmentPersistServiceTest {
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @Test
+    void assertAllocateFirstSegment() {
+        when(repository.query("/key_segments/foo_segment")).thenReturn(null, "100");
+        assertThat(new KeySegmentPersistService(repository).allocate("foo_segment", 100L), is(0L));
+        verify(repository).persist("/key_segments/foo_segment", "100");
+    }
+    
+    @Test
+    void assertAllocateNextSegment() {
+        when(repository.query("/key_segments/foo_segment")).thenReturn("100", "200");
+        assertThat(new KeySegmentPersistService(repository).allocate("foo_segment", 100L), is(100L));
+        verify(repository).persist("/key_segments/foo_segment", "200");
+    }
+    
+    @Test
+    void assertAllocateWhenPersistFailed() {
+        when(repository.query("/key_segments/foo_segment")).thenReturn("100", "100");
+        assertThrows(IllegalStateException.class, () -> new KeySegmentPersistService(repository).allocate("foo_segment", 100L));
+    }
+}
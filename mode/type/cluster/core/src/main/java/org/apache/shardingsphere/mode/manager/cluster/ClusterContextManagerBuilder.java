@@ -35,6 +35,7 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.listener.MetaD
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.listener.MetaDataWatchListenerManager;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.GlobalLockPersistService;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceWatcherFactory;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keygen.ClusterKeySegmentAllocator;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.workerid.generator.ClusterWorkerIdGenerator;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber.ClusterEventSubscriberRegistry;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber.InternalEventSubscriberRegistry;
@@ -74,7 +75,7 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
     private ComputeNodeInstanceContext buildComputeNodeInstanceContext(final ModeConfiguration modeConfig, final InstanceMetaData instanceMetaData,
                                                                        final ClusterPersistRepository repository, final EventBusContext eventBusContext, final Collection<String> labels) {
         return new ComputeNodeInstanceContext(new ComputeNodeInstance(instanceMetaData, labels),
-                new ClusterWorkerIdGenerator(repository, instanceMetaData.getId()), modeConfig,
+                new ClusterWorkerIdGenerator(repository, instanceMetaData.getId()), new ClusterKeySegmentAllocator(repository), modeConfig,
                 new GlobalLockContext(new GlobalLockPersistService(repository)), eventBusContext);
     }
     
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.keygen;
+
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocatedException;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
+import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
+import org.apache.shardingsphere.mode.service.persist.KeySegmentPersistService;
+
+/**
+ * Key segment allocator for cluster mode.
+ */
+public final class ClusterKeySegmentAllocator implements KeySegmentAllocator {
+    
+    private static final String LOCK_NAME_PREFIX = "key_segment_";
+    
+    private static final long LOCK_TIMEOUT_MILLIS = 3000L;
+    
+    private static final int MAX_LOCK_ATTEMPTS = 5;
+    
+    private static final long INITIAL_BACKOFF_MILLIS = 50L;
+    
+    private final ClusterPersistRepository repository;
+    
+    private final KeySegmentPersistService keySegmentPersistService;
+    
+    public ClusterKeySegmentAllocator(final ClusterPersistRepository repository) {
+        this.repository = repository;
+        keySegmentPersistService = new KeySegmentPersistService(repository);
+    }
+    
+    @Override
+    public long allocate(final String segmentName, final long step) {
+        DistributedLock lock = repository.getDistributedLockHolder().getDistributedLock(new GlobalLockDefinition(LOCK_NAME_PREFIX + segmentName).getLockKey());
+        acquireLock(lock, segmentName);
+        try {
+            return keySegmentPersistService.allocate(segmentName, step);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void acquireLock(final DistributedLock lock, final String segmentName) {
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        for (int attempt = 1; !lock.tryLock(LOCK_TIMEOUT_MILLIS); attempt++) {
+            ShardingSpherePreconditions.checkState(attempt < MAX_LOCK_ATTEMPTS, () -> new KeySegmentAllocatedException(segmentName, LOCK_TIMEOUT_MILLIS * MAX_LOCK_ATTEMPTS));
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new KeySegmentAllocatedException(segmentName, LOCK_TIMEOUT_MILLIS * attempt);
+            }
+            backoffMillis *= 2L;
+        }
+    }
+}
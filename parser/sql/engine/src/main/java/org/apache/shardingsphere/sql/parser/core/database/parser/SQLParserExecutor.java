@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.sql.parser.core.database.parser;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.antlr.v4.runtime.BufferedTokenStream;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -30,14 +33,34 @@ import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
 import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * SQL parser executor.
+ * 
+ * <p>
+ * SQL is parsed with SLL prediction mode first and falls back to LL prediction mode if SLL failed.
+ * Token type sequences of SQL which required LL prediction mode are remembered, so that structurally identical SQL,
+ * which only differs in literals, identifiers or whitespaces, skips the failing SLL phase.
+ * The remembered token type sequences are shared by all executors of the same database type.
+ * </p>
  */
-@RequiredArgsConstructor
 public final class SQLParserExecutor {
     
+    private static final long MAX_LL_REQUIRED_SHAPES_SIZE = 4096L;
+    
+    private static final Map<String, Cache<Long, Boolean>> LL_REQUIRED_SHAPES = new ConcurrentHashMap<>();
+    
     private final DatabaseType databaseType;
     
+    private final Cache<Long, Boolean> llRequiredShapes;
+    
+    public SQLParserExecutor(final DatabaseType databaseType) {
+        this.databaseType = databaseType;
+        llRequiredShapes = LL_REQUIRED_SHAPES.computeIfAbsent(databaseType.getType(), key -> Caffeine.newBuilder().maximumSize(MAX_LL_REQUIRED_SHAPES_SIZE).build());
+    }
+    
     /**
      * Parse SQL.
      * 
@@ -56,19 +79,35 @@ public final class SQLParserExecutor {
     private ParseASTNode twoPhaseParse(final String sql) {
         DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
         SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        long shape = getShape((Parser) sqlParser);
+        if (null == llRequiredShapes.getIfPresent(shape)) {
+            try {
+                ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
+                return (ParseASTNode) sqlParser.parse();
+            } catch (final ParseCancellationException ex) {
+                llRequiredShapes.put(shape, Boolean.TRUE);
+                ((Parser) sqlParser).reset();
+            }
+        }
+        ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
+        ((Parser) sqlParser).removeErrorListeners();
+        ((Parser) sqlParser).addErrorListener(SQLParserErrorListener.getInstance());
         try {
-            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
         } catch (final ParseCancellationException ex) {
-            ((Parser) sqlParser).reset();
-            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
-            ((Parser) sqlParser).removeErrorListeners();
-            ((Parser) sqlParser).addErrorListener(SQLParserErrorListener.getInstance());
-            try {
-                return (ParseASTNode) sqlParser.parse();
-            } catch (final ParseCancellationException exception) {
-                throw new SQLParsingException(sql + ", " + exception.getMessage());
+            throw new SQLParsingException(sql + ", " + ex.getMessage());
+        }
+    }
+    
+    private long getShape(final Parser parser) {
+        BufferedTokenStream tokenStream = (BufferedTokenStream) parser.getTokenStream();
+        tokenStream.fill();
+        long result = 1L;
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result = 31L * result + each.getType();
             }
         }
+        return result;
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import org.antlr.v4.runtime.BufferedTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class SQLParserExecutorTest {
+    
+    private final DatabaseType databaseType = mock(DatabaseType.class);
+    
+    private final ParseASTNode parseASTNode = mock(ParseASTNode.class);
+    
+    private MockedStatic<DatabaseTypedSPILoader> databaseTypedSPILoader;
+    
+    private MockedStatic<SQLParserFactory> sqlParserFactory;
+    
+    @BeforeEach
+    void setUp() {
+        when(databaseType.getType()).thenReturn("FIXTURE");
+        databaseTypedSPILoader = mockStatic(DatabaseTypedSPILoader.class);
+        databaseTypedSPILoader.when(() -> DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType)).thenReturn(mock(DialectSQLParserFacade.class));
+        sqlParserFactory = mockStatic(SQLParserFactory.class);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        sqlParserFactory.close();
+        databaseTypedSPILoader.close();
+    }
+    
+    @Test
+    void assertParseWithSLL() {
+        Parser parser = mockParser(1, 2, 3);
+        when(((SQLParser) parser).parse()).thenReturn(parseASTNode);
+        assertThat(new SQLParserExecutor(databaseType).parse("SELECT 1"), is(parseASTNode));
+        verify(parser.getInterpreter()).setPredictionMode(PredictionMode.SLL);
+        verify(parser.getInterpreter(), never()).setPredictionMode(PredictionMode.LL);
+    }
+    
+    @Test
+    void assertParseWithFallbackToLL() {
+        Parser parser = mockParser(4, 5, 6);
+        when(((SQLParser) parser).parse()).thenThrow(new ParseCancellationException()).thenReturn(parseASTNode);
+        assertThat(new SQLParserExecutor(databaseType).parse("SELECT 1"), is(parseASTNode));
+        verify(parser).reset();
+        verify(parser.getInterpreter()).setPredictionMode(PredictionMode.SLL);
+        verify(parser.getInterpreter()).setPredictionMode(PredictionMode.LL);
+        verify((SQLParser) parser, times(2)).parse();
+    }
+    
+    @Test
+    void assertParseWithRememberedShape() {
+        Parser failedParser = mockParser(7, 8, 9);
+        when(((SQLParser) failedParser).parse()).thenThrow(new ParseCancellationException()).thenReturn(parseASTNode);
+        new SQLParserExecutor(databaseType).parse("SELECT a FROM t");
+        Parser parser = mockParser(7, 8, 9);
+        when(((SQLParser) parser).parse()).thenReturn(parseASTNode);
+        assertThat(new SQLParserExecutor(databaseType).parse("SELECT b FROM t"), is(parseASTNode));
+        verify(parser.getInterpreter(), never()).setPredictionMode(PredictionMode.SLL);
+        verify(parser.getInterpreter()).setPredictionMode(PredictionMode.LL);
+        verify((SQLParser) parser).parse();
+    }
+    
+    private Parser mockParser(final int... tokenTypes) {
+        Parser result = mock(Parser.class, withSettings().extraInterfaces(SQLParser.class));
+        BufferedTokenStream tokenStream = mock(BufferedTokenStream.class);
+        List<Token> tokens = new ArrayList<>(tokenTypes.length);
+        for (int each : tokenTypes) {
+            Token token = mock(Token.class);
+            when(token.getChannel()).thenReturn(Token.DEFAULT_CHANNEL);
+            when(token.getType()).thenReturn(each);
+            tokens.add(token);
+        }
+        when(tokenStream.getTokens()).thenReturn(tokens);
+        when(result.getTokenStream()).thenReturn(tokenStream);
+        ParserATNSimulator interpreter = mock(ParserATNSimulator.class);
+        when(result.getInterpreter()).thenReturn(interpreter);
+        sqlParserFactory.when(() -> SQLParserFactory.newInstance(anyString(), any(), any())).thenReturn(result);
+        return result;
+    }
+}
@@ -27,9 +27,11 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatem
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.CursorAvailable;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.SQLExceptionTransformEngine;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.resource.storageunit.EmptyStorageUnitException;
@@ -41,10 +43,14 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.infra.executor.sql.pagination.SeekPaginationEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
@@ -53,6 +59,11 @@ import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.refresher.MetaDataRefreshEngine;
+import org.apache.shardingsphere.proxy.backend.connector.cache.CachedMergedResult;
+import org.apache.shardingsphere.proxy.backend.connector.cache.CachedQueryResult;
+import org.apache.shardingsphere.proxy.backend.connector.cache.QueryResultCache;
+import org.apache.shardingsphere.proxy.backend.connector.cache.QueryResultCacheKey;
+import org.apache.shardingsphere.proxy.backend.connector.cache.QueryResultRowsCodec;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
@@ -87,6 +98,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -170,10 +182,76 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
             ResultSet resultSet = doExecuteFederation(queryContext, metaDataContexts);
             return processExecuteFederation(resultSet, metaDataContexts);
         }
-        ExecutionContext executionContext = generateExecutionContext();
-        return isNeedImplicitCommitTransaction(queryContext.getSqlStatementContext().getSqlStatement(), executionContext.getExecutionUnits().size() > 1)
-                ? doExecuteWithImplicitCommitTransaction(() -> doExecute(executionContext))
-                : doExecute(executionContext);
+        ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+        if (isQueryResultCacheable(props)) {
+            return doExecuteWithQueryResultCache(props);
+        }
+        try {
+            ExecutionContext executionContext = generateExecutionContext();
+            return isNeedImplicitCommitTransaction(queryContext.getSqlStatementContext().getSqlStatement(), executionContext.getExecutionUnits().size() > 1)
+                    ? doExecuteWithImplicitCommitTransaction(() -> doExecute(executionContext))
+                    : doExecute(executionContext);
+        } finally {
+            QueryResultCache.getInstance().invalidate(database.getName(), queryContext.getSqlStatementContext(), databaseConnectionManager.getConnectionSession(), props);
+        }
+    }
+    
+    private boolean isQueryResultCacheable(final ConfigurationProperties props) {
+        ConnectionSession connectionSession = databaseConnectionManager.getConnectionSession();
+        return connectionSession.isAutoCommit() && !connectionSession.getTransactionStatus().isInTransaction() && !isHintRouted()
+                && !ProxyContext.getInstance().getContextManager().getComputeNodeInstanceContext().isCluster()
+                && QueryResultCache.getInstance().isCacheable(database.getName(), queryContext.getSqlStatementContext(), props);
+    }
+    
+    private boolean isHintRouted() {
+        if (HintManager.isInstantiated()) {
+            return true;
+        }
+        HintValueContext hintValueContext = queryContext.getHintValueContext();
+        return !hintValueContext.getShardingDatabaseValues().isEmpty() || !hintValueContext.getShardingTableValues().isEmpty() || hintValueContext.findHintDataSourceName().isPresent()
+                || hintValueContext.isWriteRouteOnly() || hintValueContext.isDatabaseShardingOnly() || hintValueContext.isShadow() || hintValueContext.isSkipSQLRewrite();
+    }
+    
+    private ResponseHeader doExecuteWithQueryResultCache(final ConfigurationProperties props) throws SQLException {
+        QueryResultCache queryResultCache = QueryResultCache.getInstance();
+        QueryResultCacheKey key = createQueryResultCacheKey();
+        Optional<CachedQueryResult> cachedQueryResult = queryResultCache.find(key);
+        if (cachedQueryResult.isPresent()) {
+            queryHeaders = cachedQueryResult.get().getQueryHeaders();
+            mergedResult = new CachedMergedResult(QueryResultRowsCodec.decode(cachedQueryResult.get().getRows()));
+            return new QueryResponseHeader(queryHeaders);
+        }
+        Map<String, Long> tableVersions = queryResultCache.getTableVersions(database.getName(), ((TableAvailable) queryContext.getSqlStatementContext()).getTablesContext().getTableNames());
+        ResponseHeader result = doExecute(generateExecutionContext());
+        if (result instanceof QueryResponseHeader) {
+            loadRows(queryResultCache, key, tableVersions);
+        }
+        return result;
+    }
+    
+    private QueryResultCacheKey createQueryResultCacheKey() {
+        String schemaName = ((TableAvailable) queryContext.getSqlStatementContext()).getTablesContext().getSchemaName()
+                .orElseGet(() -> new DatabaseTypeRegistry(queryContext.getSqlStatementContext().getDatabaseType()).getDefaultSchemaName(database.getName()));
+        return new QueryResultCacheKey(database.getName(), schemaName, queryContext.getSql(), queryContext.getParameters(),
+                databaseConnectionManager.getConnectionSession().getRequiredSessionVariableRecorder().getRetainedVariables());
+    }
+    
+    private void loadRows(final QueryResultCache queryResultCache, final QueryResultCacheKey key, final Map<String, Long> tableVersions) throws SQLException {
+        QueryResultRowsCodec codec = new QueryResultRowsCodec(queryResultCache.getMaxMemoryBytes());
+        List<MemoryQueryResultRow> rows = new LinkedList<>();
+        while (mergedResult.next()) {
+            Object[] row = new Object[queryHeaders.size()];
+            readRowValues(row);
+            MemoryQueryResultRow memoryQueryResultRow = new MemoryQueryResultRow(row);
+            rows.add(memoryQueryResultRow);
+            if (!codec.encode(memoryQueryResultRow)) {
+                mergedResult = new CachedMergedResult(rows, mergedResult);
+                return;
+            }
+        }
+        mergedResult.close();
+        mergedResult = new CachedMergedResult(rows);
+        queryResultCache.put(key, new CachedQueryResult(queryHeaders, codec.getEncodedRows(), tableVersions));
     }
     
     private ExecutionContext generateExecutionContext() {
@@ -221,17 +299,23 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
             return new UpdateResponseHeader(queryContext.getSqlStatementContext().getSqlStatement());
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
-        List result = proxySQLExecutor.execute(executionContext);
+        List result = proxySQLExecutor.execute(rewriteSeekPagination(executionContext));
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
         return executeResultSample instanceof QueryResult ? processExecuteQuery(queryContext.getSqlStatementContext(), result, (QueryResult) executeResultSample) : processExecuteUpdate(result);
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ExecutionContext rewriteSeekPagination(final ExecutionContext executionContext) throws SQLException {
+        long offsetThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.SEEK_PAGINATION_OFFSET_THRESHOLD);
+        return new SeekPaginationEngine(offsetThreshold, database).rewrite(executionContext, each -> (List) proxySQLExecutor.execute(each));
+    }
+    
     private ResultSet doExecuteFederation(final QueryContext queryContext, final MetaDataContexts metaDataContexts) {
         boolean isReturnGeneratedKeys = queryContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseConnectionManager.getConnectionSession().getDatabaseName());
         DatabaseType protocolType = database.getProtocolType();
-        ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(driverType, protocolType, database.getResourceMetaData(),
+        ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(driverType, protocolType, database.getName(), database.getResourceMetaData(),
                 queryContext.getSqlStatementContext().getSqlStatement(), this, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown(), true);
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine(isReturnGeneratedKeys, metaDataContexts);
         SQLFederationContext context = new SQLFederationContext(false, queryContext, metaDataContexts.getMetaData(), databaseConnectionManager.getConnectionSession().getProcessId());
@@ -373,9 +457,18 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return new QueryResponseRow(cells);
     }
     
+    @Override
+    public boolean readRowValues(final Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return true;
+    }
+    
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -387,6 +480,17 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
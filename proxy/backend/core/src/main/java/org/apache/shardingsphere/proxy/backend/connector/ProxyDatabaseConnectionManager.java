@@ -22,11 +22,13 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.OnlineDatabaseConnectionManager;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.SessionVariableTracker;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionException;
@@ -45,6 +47,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * Database connection manager of ShardingSphere-Proxy.
@@ -123,19 +126,38 @@ public final class ProxyDatabaseConnectionManager implements OnlineDatabaseConne
     }
     
     private void setSessionVariablesIfNecessary(final List<Connection> connections) throws SQLException {
-        if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || connections.isEmpty()) {
+        boolean sessionVariableTracked = isSessionVariableTracked();
+        if (connections.isEmpty() || !sessionVariableTracked && connectionSession.getRequiredSessionVariableRecorder().isEmpty()) {
             return;
         }
         String databaseType = connections.iterator().next().getMetaData().getDatabaseProductName();
-        List<String> setSQLs = connectionSession.getRequiredSessionVariableRecorder().toSetSQLs(databaseType);
         try {
-            executeSetSessionVariables(connections, setSQLs);
+            if (sessionVariableTracked) {
+                replaySessionVariables(connections, databaseType);
+            } else {
+                executeSetSessionVariables(connections, connectionSession.getRequiredSessionVariableRecorder().toSetSQLs(databaseType));
+            }
         } catch (final SQLException ex) {
             releaseConnection(connections, ex);
             throw ex;
         }
     }
     
+    private boolean isSessionVariableTracked() {
+        return Boolean.TRUE.equals(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(
+                ConfigurationPropertyKey.PROXY_BACKEND_SESSION_VARIABLE_TRACKING_ENABLED));
+    }
+    
+    private void replaySessionVariables(final List<Connection> connections, final String databaseType) throws SQLException {
+        for (Connection each : connections) {
+            if (SessionVariableTracker.isTrackable(each)) {
+                SessionVariableTracker.replay(each, connectionSession.getRequiredSessionVariableRecorder(), databaseType);
+            } else {
+                executeSetSessionVariables(Collections.singletonList(each), connectionSession.getRequiredSessionVariableRecorder().toSetSQLs(databaseType));
+            }
+        }
+    }
+    
     private void executeSetSessionVariables(final List<Connection> connections, final List<String> setSQLs) throws SQLException {
         for (Connection each : connections) {
             try (Statement statement = each.createStatement()) {
@@ -329,15 +351,20 @@ public final class ProxyDatabaseConnectionManager implements OnlineDatabaseConne
         if (connectionSession.getRequiredSessionVariableRecorder().isEmpty() || values.isEmpty()) {
             return;
         }
+        Collection<Connection> resetConnections = isSessionVariableTracked() ? values.stream().filter(each -> !SessionVariableTracker.isTrackable(each)).collect(Collectors.toList()) : values;
+        if (resetConnections.isEmpty()) {
+            connectionSession.getRequiredSessionVariableRecorder().removeVariablesWithDefaultValue();
+            return;
+        }
         String databaseType;
         try {
-            databaseType = values.iterator().next().getMetaData().getDatabaseProductName();
+            databaseType = resetConnections.iterator().next().getMetaData().getDatabaseProductName();
         } catch (final SQLException ex) {
             exceptions.add(ex);
             return;
         }
         List<String> resetSQLs = connectionSession.getRequiredSessionVariableRecorder().toResetSQLs(databaseType);
-        for (Connection each : values) {
+        for (Connection each : resetConnections) {
             try (Statement statement = each.createStatement()) {
                 for (String eachResetSQL : resetSQLs) {
                     statement.execute(eachResetSQL);
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Cached merged result.
+ * 
+ * <p>Rows loaded in memory are returned first, then the rows not loaded are returned from the remaining merged result if present.</p>
+ */
+public final class CachedMergedResult implements MergedResult {
+    
+    private final Iterator<MemoryQueryResultRow> rows;
+    
+    private final MergedResult remainingMergedResult;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public CachedMergedResult(final List<MemoryQueryResultRow> rows) {
+        this(rows, null);
+    }
+    
+    public CachedMergedResult(final List<MemoryQueryResultRow> rows, final MergedResult remainingMergedResult) {
+        this.rows = rows.iterator();
+        this.remainingMergedResult = remainingMergedResult;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (rows.hasNext()) {
+            currentRow = rows.next();
+            return true;
+        }
+        currentRow = null;
+        return null != remainingMergedResult && remainingMergedResult.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (null == currentRow) {
+            return remainingMergedResult.getValue(columnIndex, type);
+        }
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return null == currentRow ? remainingMergedResult.getCalendarValue(columnIndex, type, calendar) : getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        if (null == currentRow) {
+            return remainingMergedResult.getInputStream(columnIndex, type);
+        }
+        throw new SQLFeatureNotSupportedException("getInputStream");
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        if (null == currentRow) {
+            return remainingMergedResult.getCharacterStream(columnIndex);
+        }
+        throw new SQLFeatureNotSupportedException("getCharacterStream");
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return null == currentRow && null != remainingMergedResult ? remainingMergedResult.wasNull() : wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null != remainingMergedResult) {
+            remainingMergedResult.close();
+        }
+    }
+}
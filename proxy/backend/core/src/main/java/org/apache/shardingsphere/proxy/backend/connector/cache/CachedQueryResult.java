@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached query result.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class CachedQueryResult {
+    
+    private final List<QueryHeader> queryHeaders;
+    
+    private final byte[] rows;
+    
+    private final Map<String, Long> tableVersions;
+    
+    /**
+     * Get weight in bytes.
+     *
+     * @return weight in bytes
+     */
+    public int getWeight() {
+        return rows.length;
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Splitter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BetweenExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.CaseWhenExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.FunctionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.InExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ListExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.NotExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ExpressionProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ExpressionOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.JoinTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.util.SubqueryExtractUtils;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Query result cache.
+ * 
+ * <p>Cached results are validated against versions of their tables, the versions increase when the tables are written through ShardingSphere-Proxy.
+ * Every proxy path executing written statements calls {@link #invalidate(String, SQLStatementContext, ConnectionSession, ConfigurationProperties)},
+ * SQL federation is not such a path because it only executes queries.</p>
+ *
+ * <p>Versions are local to this proxy instance, so the cache is not used in cluster mode, nor for hint routed queries whose route is not part of the cache key.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryResultCache {
+    
+    private static final QueryResultCache INSTANCE = new QueryResultCache();
+    
+    private static final Collection<String> NON_DETERMINISTIC_FUNCTIONS = new CaseInsensitiveSet<>(Arrays.asList(
+            "NOW", "SYSDATE", "CURDATE", "CURTIME", "UNIX_TIMESTAMP", "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP", "CLOCK_TIMESTAMP", "STATEMENT_TIMESTAMP", "TRANSACTION_TIMESTAMP",
+            "TIMEOFDAY", "GETDATE", "RAND", "RANDOM", "UUID", "UUID_SHORT", "GEN_RANDOM_UUID", "NEWID", "CONNECTION_ID", "LAST_INSERT_ID", "FOUND_ROWS", "ROW_COUNT", "USER",
+            "DATABASE", "SCHEMA", "NEXTVAL", "CURRVAL", "SLEEP", "GET_LOCK", "CURRENT_TIMESTAMP", "CURRENT_DATE", "CURRENT_TIME", "CURRENT_USER", "CURRENT_SCHEMA",
+            "LOCALTIME", "LOCALTIMESTAMP", "SESSION_USER", "SYSTIMESTAMP"));
+    
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    private final LongAdder evictionCount = new LongAdder();
+    
+    private volatile CacheHolder cacheHolder = new CacheHolder("", Collections.emptySet(), 0L, 0L, null);
+    
+    /**
+     * Get instance of query result cache.
+     *
+     * @return got instance
+     */
+    public static QueryResultCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Judge whether query result is cacheable.
+     *
+     * <p>Queries which call non-deterministic functions in any of their parsed expressions or subqueries are not cacheable.</p>
+     *
+     * @param databaseName database name
+     * @param sqlStatementContext SQL statement context
+     * @param props configuration properties
+     * @return is cacheable or not
+     */
+    public boolean isCacheable(final String databaseName, final SQLStatementContext sqlStatementContext, final ConfigurationProperties props) {
+        CacheHolder holder = getCacheHolder(props);
+        if (null == holder.cache || !(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        if (SelectStatementHandler.getLockSegment(selectStatementContext.getSqlStatement()).isPresent()) {
+            return false;
+        }
+        Collection<String> tableNames = selectStatementContext.getTablesContext().getTableNames();
+        if (tableNames.isEmpty()) {
+            return false;
+        }
+        for (String each : tableNames) {
+            if (!holder.tableNames.contains(getVersionKey(databaseName, each))) {
+                return false;
+            }
+        }
+        return !containsNonDeterministicFunction(selectStatementContext.getSqlStatement());
+    }
+    
+    private boolean containsNonDeterministicFunction(final SelectStatement selectStatement) {
+        Collection<SelectStatement> selectStatements = new LinkedList<>();
+        selectStatements.add(selectStatement);
+        SubqueryExtractUtils.getSubquerySegments(selectStatement).forEach(each -> selectStatements.add(each.getSelect()));
+        for (SelectStatement each : selectStatements) {
+            for (ExpressionSegment expression : getExpressions(each)) {
+                if (containsNonDeterministicFunction(expression)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private Collection<ExpressionSegment> getExpressions(final SelectStatement selectStatement) {
+        Collection<ExpressionSegment> result = new LinkedList<>();
+        if (null != selectStatement.getProjections()) {
+            for (ProjectionSegment each : selectStatement.getProjections().getProjections()) {
+                if (each instanceof ExpressionProjectionSegment) {
+                    result.add(((ExpressionProjectionSegment) each).getExpr());
+                } else if (each instanceof AggregationProjectionSegment) {
+                    result.addAll(((AggregationProjectionSegment) each).getParameters());
+                }
+            }
+        }
+        selectStatement.getFrom().ifPresent(optional -> addJoinConditions(result, optional));
+        selectStatement.getWhere().ifPresent(optional -> result.add(optional.getExpr()));
+        selectStatement.getGroupBy().ifPresent(optional -> addOrderByExpressions(result, optional.getGroupByItems()));
+        selectStatement.getHaving().ifPresent(optional -> result.add(optional.getExpr()));
+        selectStatement.getOrderBy().ifPresent(optional -> addOrderByExpressions(result, optional.getOrderByItems()));
+        return result;
+    }
+    
+    private void addJoinConditions(final Collection<ExpressionSegment> expressions, final TableSegment tableSegment) {
+        if (tableSegment instanceof JoinTableSegment) {
+            expressions.add(((JoinTableSegment) tableSegment).getCondition());
+            addJoinConditions(expressions, ((JoinTableSegment) tableSegment).getLeft());
+            addJoinConditions(expressions, ((JoinTableSegment) tableSegment).getRight());
+        }
+    }
+    
+    private void addOrderByExpressions(final Collection<ExpressionSegment> expressions, final Collection<OrderByItemSegment> orderByItems) {
+        for (OrderByItemSegment each : orderByItems) {
+            if (each instanceof ExpressionOrderByItemSegment) {
+                expressions.add(((ExpressionOrderByItemSegment) each).getExpr());
+            }
+        }
+    }
+    
+    private boolean containsNonDeterministicFunction(final ExpressionSegment expression) {
+        if (expression instanceof FunctionSegment) {
+            return isNonDeterministicFunction((FunctionSegment) expression) || containsNonDeterministicFunction(((FunctionSegment) expression).getParameters());
+        }
+        if (expression instanceof ExpressionProjectionSegment) {
+            return containsNonDeterministicFunction(((ExpressionProjectionSegment) expression).getExpr());
+        }
+        if (expression instanceof AggregationProjectionSegment) {
+            return containsNonDeterministicFunction(((AggregationProjectionSegment) expression).getParameters());
+        }
+        if (expression instanceof BinaryOperationExpression) {
+            return containsNonDeterministicFunction(((BinaryOperationExpression) expression).getLeft()) || containsNonDeterministicFunction(((BinaryOperationExpression) expression).getRight());
+        }
+        if (expression instanceof InExpression) {
+            return containsNonDeterministicFunction(((InExpression) expression).getLeft()) || containsNonDeterministicFunction(((InExpression) expression).getRight());
+        }
+        if (expression instanceof BetweenExpression) {
+            BetweenExpression betweenExpression = (BetweenExpression) expression;
+            return containsNonDeterministicFunction(Arrays.asList(betweenExpression.getLeft(), betweenExpression.getBetweenExpr(), betweenExpression.getAndExpr()));
+        }
+        if (expression instanceof NotExpression) {
+            return containsNonDeterministicFunction(((NotExpression) expression).getExpression());
+        }
+        if (expression instanceof ListExpression) {
+            return containsNonDeterministicFunction(((ListExpression) expression).getItems());
+        }
+        if (expression instanceof CaseWhenExpression) {
+            CaseWhenExpression caseWhenExpression = (CaseWhenExpression) expression;
+            return containsNonDeterministicFunction(caseWhenExpression.getCaseExpr()) || containsNonDeterministicFunction(caseWhenExpression.getWhenExprs())
+                    || containsNonDeterministicFunction(caseWhenExpression.getThenExprs()) || containsNonDeterministicFunction(caseWhenExpression.getElseExpr());
+        }
+        return false;
+    }
+    
+    private boolean containsNonDeterministicFunction(final Collection<ExpressionSegment> expressions) {
+        for (ExpressionSegment each : expressions) {
+            if (containsNonDeterministicFunction(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean isNonDeterministicFunction(final FunctionSegment functionSegment) {
+        String functionName = functionSegment.getFunctionName();
+        int parenthesesIndex = functionName.indexOf('(');
+        return NON_DETERMINISTIC_FUNCTIONS.contains(-1 == parenthesesIndex ? functionName.trim() : functionName.substring(0, parenthesesIndex).trim());
+    }
+    
+    /**
+     * Find cached query result.
+     *
+     * @param key query result cache key
+     * @return cached query result
+     */
+    public Optional<CachedQueryResult> find(final QueryResultCacheKey key) {
+        Cache<QueryResultCacheKey, CachedQueryResult> cache = cacheHolder.cache;
+        CachedQueryResult result = null == cache ? null : cache.getIfPresent(key);
+        if (null != result && !isLatestVersions(result.getTableVersions())) {
+            cache.invalidate(key);
+            result = null;
+        }
+        if (null == result) {
+            missCount.increment();
+            return Optional.empty();
+        }
+        hitCount.increment();
+        return Optional.of(result);
+    }
+    
+    private boolean isLatestVersions(final Map<String, Long> versions) {
+        for (Entry<String, Long> entry : versions.entrySet()) {
+            if (entry.getValue() != getTableVersion(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Put cached query result.
+     *
+     * @param key query result cache key
+     * @param value cached query result
+     */
+    public void put(final QueryResultCacheKey key, final CachedQueryResult value) {
+        Cache<QueryResultCacheKey, CachedQueryResult> cache = cacheHolder.cache;
+        if (null != cache && isLatestVersions(value.getTableVersions())) {
+            cache.put(key, value);
+        }
+    }
+    
+    /**
+     * Get current versions of tables.
+     *
+     * @param databaseName database name
+     * @param tableNames table names
+     * @return current versions of tables
+     */
+    public Map<String, Long> getTableVersions(final String databaseName, final Collection<String> tableNames) {
+        Map<String, Long> result = new HashMap<>(tableNames.size(), 1F);
+        for (String each : tableNames) {
+            String versionKey = getVersionKey(databaseName, each);
+            result.put(versionKey, getTableVersion(versionKey));
+        }
+        return result;
+    }
+    
+    private long getTableVersion(final String versionKey) {
+        AtomicLong result = tableVersions.get(versionKey);
+        return null == result ? 0L : result.get();
+    }
+    
+    /**
+     * Invalidate cached query results of tables written by SQL statement.
+     *
+     * <p>Tables written in transaction are invalidated again after the transaction finished.</p>
+     *
+     * @param databaseName database name
+     * @param sqlStatementContext SQL statement context
+     * @param connectionSession connection session
+     * @param props configuration properties
+     */
+    public void invalidate(final String databaseName, final SQLStatementContext sqlStatementContext, final ConnectionSession connectionSession, final ConfigurationProperties props) {
+        if (null == getCacheHolder(props).cache || !(sqlStatementContext instanceof TableAvailable) || sqlStatementContext instanceof SelectStatementContext) {
+            return;
+        }
+        Collection<String> tableNames = ((TableAvailable) sqlStatementContext).getTablesContext().getTableNames();
+        invalidate(databaseName, tableNames, props);
+        if (connectionSession.getTransactionStatus().isInTransaction()) {
+            connectionSession.getTransactionWrittenTables().add(databaseName, tableNames);
+        }
+    }
+    
+    /**
+     * Invalidate cached query results of tables.
+     *
+     * @param databaseName database name
+     * @param tableNames table names
+     * @param props configuration properties
+     */
+    public void invalidate(final String databaseName, final Collection<String> tableNames, final ConfigurationProperties props) {
+        CacheHolder holder = getCacheHolder(props);
+        if (null == holder.cache) {
+            return;
+        }
+        for (String each : tableNames) {
+            String versionKey = getVersionKey(databaseName, each);
+            if (holder.tableNames.contains(versionKey)) {
+                tableVersions.computeIfAbsent(versionKey, key -> new AtomicLong()).incrementAndGet();
+            }
+        }
+    }
+    
+    private String getVersionKey(final String databaseName, final String tableName) {
+        return databaseName.toLowerCase(Locale.ENGLISH) + "." + tableName.toLowerCase(Locale.ENGLISH);
+    }
+    
+    /**
+     * Get max memory bytes of cached query results.
+     *
+     * @return max memory bytes
+     */
+    public long getMaxMemoryBytes() {
+        return cacheHolder.maxMemoryBytes;
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+    
+    /**
+     * Get memory bytes of cached query results.
+     *
+     * @return memory bytes
+     */
+    public long getMemoryBytes() {
+        Cache<QueryResultCacheKey, CachedQueryResult> cache = cacheHolder.cache;
+        return null == cache ? 0L : cache.policy().eviction().map(optional -> optional.weightedSize().orElse(0L)).orElse(0L);
+    }
+    
+    private CacheHolder getCacheHolder(final ConfigurationProperties props) {
+        CacheHolder result = cacheHolder;
+        String tables = props.getValue(ConfigurationPropertyKey.PROXY_RESULT_CACHE_TABLES);
+        long maxMemoryBytes = props.<Long>getValue(ConfigurationPropertyKey.PROXY_RESULT_CACHE_MAX_MEMORY_BYTES);
+        long ttlMillis = props.<Long>getValue(ConfigurationPropertyKey.PROXY_RESULT_CACHE_TTL_MILLISECONDS);
+        return result.isSameConfiguration(tables, maxMemoryBytes, ttlMillis) ? result : refreshCacheHolder(tables, maxMemoryBytes, ttlMillis);
+    }
+    
+    private synchronized CacheHolder refreshCacheHolder(final String tables, final long maxMemoryBytes, final long ttlMillis) {
+        if (cacheHolder.isSameConfiguration(tables, maxMemoryBytes, ttlMillis)) {
+            return cacheHolder;
+        }
+        Optional.ofNullable(cacheHolder.cache).ifPresent(Cache::invalidateAll);
+        Collection<String> tableNames = new CaseInsensitiveSet<>(Splitter.on(',').trimResults().omitEmptyStrings().splitToList(tables));
+        cacheHolder = new CacheHolder(tables, tableNames, maxMemoryBytes, ttlMillis, tableNames.isEmpty() || maxMemoryBytes <= 0L || ttlMillis <= 0L ? null : createCache(maxMemoryBytes, ttlMillis));
+        return cacheHolder;
+    }
+    
+    private Cache<QueryResultCacheKey, CachedQueryResult> createCache(final long maxMemoryBytes, final long ttlMillis) {
+        return Caffeine.newBuilder().maximumWeight(maxMemoryBytes).<QueryResultCacheKey, CachedQueryResult>weigher((key, value) -> value.getWeight())
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS).removalListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictionCount.increment();
+                    }
+                }).build();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CacheHolder {
+        
+        private final String tables;
+        
+        private final Collection<String> tableNames;
+        
+        private final long maxMemoryBytes;
+        
+        private final long ttlMillis;
+        
+        private final Cache<QueryResultCacheKey, CachedQueryResult> cache;
+        
+        private boolean isSameConfiguration(final String tables, final long maxMemoryBytes, final long ttlMillis) {
+            return this.tables.equals(tables) && this.maxMemoryBytes == maxMemoryBytes && this.ttlMillis == ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRowCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Query result rows codec.
+ * 
+ * <p>Rows are encoded one by one with {@link MemoryQueryResultRowCodec} while they are loaded,
+ * so loading can stop caching as soon as a row contains value of unsupported type or encoded rows exceed max bytes.</p>
+ */
+@RequiredArgsConstructor
+public final class QueryResultRowsCodec {
+    
+    private final long maxBytes;
+    
+    private final ByteArrayOutputStream encodedRows = new ByteArrayOutputStream();
+    
+    private final DataOutputStream output = new DataOutputStream(encodedRows);
+    
+    /**
+     * Encode row.
+     *
+     * @param row row to be encoded
+     * @return whether row is encoded and encoded rows are still within max bytes
+     */
+    @SneakyThrows(IOException.class)
+    public boolean encode(final MemoryQueryResultRow row) {
+        try {
+            MemoryQueryResultRowCodec.write(output, row);
+        } catch (final SQLFeatureNotSupportedException ignored) {
+            return false;
+        }
+        return output.size() <= maxBytes;
+    }
+    
+    /**
+     * Get encoded rows.
+     *
+     * @return encoded rows
+     */
+    public byte[] getEncodedRows() {
+        return encodedRows.toByteArray();
+    }
+    
+    /**
+     * Decode rows.
+     *
+     * @param encodedRows encoded rows
+     * @return decoded rows
+     */
+    @SneakyThrows(IOException.class)
+    public static List<MemoryQueryResultRow> decode(final byte[] encodedRows) {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(encodedRows));
+        List<MemoryQueryResultRow> result = new LinkedList<>();
+        while (input.available() > 0) {
+            result.add(MemoryQueryResultRowCodec.read(input));
+        }
+        return result;
+    }
+}
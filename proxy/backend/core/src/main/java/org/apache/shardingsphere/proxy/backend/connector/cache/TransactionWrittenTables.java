@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tables written in transaction.
+ * 
+ * <p>Query results of them may be cached by other sessions before the transaction finished, so they are invalidated again after commit or rollback.</p>
+ */
+public final class TransactionWrittenTables {
+    
+    private final Map<String, Collection<String>> tableNames = new ConcurrentHashMap<>();
+    
+    /**
+     * Add written tables.
+     *
+     * @param databaseName database name
+     * @param tableNames table names
+     */
+    public void add(final String databaseName, final Collection<String> tableNames) {
+        this.tableNames.computeIfAbsent(databaseName, key -> new CaseInsensitiveSet<>()).addAll(tableNames);
+    }
+    
+    /**
+     * Invalidate cached query results of written tables.
+     *
+     * @param props configuration properties
+     */
+    public void invalidate(final ConfigurationProperties props) {
+        if (tableNames.isEmpty()) {
+            return;
+        }
+        for (Entry<String, Collection<String>> entry : tableNames.entrySet()) {
+            QueryResultCache.getInstance().invalidate(entry.getKey(), entry.getValue(), props);
+        }
+        tableNames.clear();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Session variable tracker of pooled backend connections.
+ * 
+ * <p>
+ * Backend connections go back to the shared pool after each statement or transaction.
+ * Instead of resetting session variables on every release, variables retained on each physical connection are tracked,
+ * and they are only reset and replayed when the connection is acquired by a session which requires different variables.
+ * Only connections which unwrap to a physical connection other than themselves are trackable,
+ * because pools which hand out a new wrapper for every checkout cannot be matched with their records.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SessionVariableTracker {
+    
+    private static final Map<Connection, Map<String, String>> RETAINED_VARIABLES = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    private static final Set<Connection> DIRTY_CONNECTIONS = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    
+    /**
+     * Judge whether connection is trackable.
+     *
+     * @param connection connection acquired from pool
+     * @return is trackable or not
+     */
+    public static boolean isTrackable(final Connection connection) {
+        return getPhysicalConnection(connection) != connection;
+    }
+    
+    /**
+     * Replay session variables required by session on connection.
+     *
+     * @param connection connection acquired from pool
+     * @param recorder required session variable recorder of session
+     * @param databaseType database type
+     * @throws SQLException SQL exception
+     */
+    public static void replay(final Connection connection, final RequiredSessionVariableRecorder recorder, final String databaseType) throws SQLException {
+        Connection physicalConnection = getPhysicalConnection(connection);
+        Map<String, String> requiredVariables = recorder.getRetainedVariables();
+        Map<String, String> retainedVariables = RETAINED_VARIABLES.getOrDefault(physicalConnection, Collections.emptyMap());
+        if (requiredVariables.equals(retainedVariables) && !DIRTY_CONNECTIONS.contains(physicalConnection)) {
+            return;
+        }
+        List<String> sqls = new LinkedList<>(createRecorder(retainedVariables).toResetSQLs(databaseType));
+        sqls.addAll(createRecorder(requiredVariables).toSetSQLs(databaseType));
+        try (Statement statement = connection.createStatement()) {
+            for (String each : sqls) {
+                statement.execute(each);
+            }
+        } catch (final SQLException ex) {
+            Map<String, String> unknownVariables = new HashMap<>(retainedVariables);
+            unknownVariables.putAll(requiredVariables);
+            RETAINED_VARIABLES.put(physicalConnection, unknownVariables);
+            DIRTY_CONNECTIONS.add(physicalConnection);
+            throw ex;
+        }
+        DIRTY_CONNECTIONS.remove(physicalConnection);
+        if (requiredVariables.isEmpty()) {
+            RETAINED_VARIABLES.remove(physicalConnection);
+        } else {
+            RETAINED_VARIABLES.put(physicalConnection, requiredVariables);
+        }
+    }
+    
+    private static Connection getPhysicalConnection(final Connection connection) {
+        try {
+            return connection.isWrapperFor(Connection.class) ? connection.unwrap(Connection.class) : connection;
+        } catch (final SQLException ex) {
+            return connection;
+        }
+    }
+    
+    private static RequiredSessionVariableRecorder createRecorder(final Map<String, String> variables) {
+        RequiredSessionVariableRecorder result = new RequiredSessionVariableRecorder();
+        for (Entry<String, String> entry : variables.entrySet()) {
+            result.setVariable(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+}
@@ -102,6 +102,7 @@ public final class BackendTransactionManager implements TransactionManager {
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getConnectionContext().clearTransactionContext();
                 connection.getConnectionSession().getConnectionContext().clearCursorContext();
+                connection.getConnectionSession().getTransactionWrittenTables().invalidate(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
             }
         }
     }
@@ -125,6 +126,7 @@ public final class BackendTransactionManager implements TransactionManager {
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getConnectionContext().clearTransactionContext();
                 connection.getConnectionSession().getConnectionContext().clearCursorContext();
+                connection.getConnectionSession().getTransactionWrittenTables().invalidate(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
             }
         }
     }
@@ -56,6 +56,17 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Read values of current row into the given array without creating row data.
+     *
+     * @param values values of current row to be filled, whose length is column count of query headers
+     * @return read or not, handlers which can not read row values directly should return false, and row data will be used instead
+     * @throws SQLException SQL exception
+     */
+    default boolean readRowValues(final Object[] values) throws SQLException {
+        return false;
+    }
+    
     /**
      * Close.
      * 
@@ -89,6 +89,11 @@ public final class UnicastDatabaseBackendHandler implements DatabaseBackendHandl
         return databaseConnector.getRowData();
     }
     
+    @Override
+    public boolean readRowValues(final Object[] values) throws SQLException {
+        return databaseConnector.readRowValues(values);
+    }
+    
     @Override
     public void close() throws SQLException {
         if (null != databaseConnector) {
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.session;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -55,6 +56,21 @@ public final class RequiredSessionVariableRecorder {
         return sessionVariables.isEmpty();
     }
     
+    /**
+     * Get variables retained on connections, variables set to default value are excluded.
+     *
+     * @return retained variables
+     */
+    public Map<String, String> getRetainedVariables() {
+        Map<String, String> result = new HashMap<>(sessionVariables.size(), 1F);
+        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+            if (!DEFAULT.equalsIgnoreCase(entry.getValue())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get set SQLs for database.
      *
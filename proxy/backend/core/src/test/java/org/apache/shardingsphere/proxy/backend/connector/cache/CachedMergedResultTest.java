@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedMergedResultTest {
+    
+    @Test
+    void assertNextWithoutRemainingMergedResult() throws SQLException {
+        CachedMergedResult actual = new CachedMergedResult(Arrays.asList(new MemoryQueryResultRow(new Object[]{1}), new MemoryQueryResultRow(new Object[]{null})));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        actual.getValue(1, Object.class);
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithRemainingMergedResult() throws SQLException {
+        MergedResult remainingMergedResult = mock(MergedResult.class);
+        when(remainingMergedResult.next()).thenReturn(true, false);
+        when(remainingMergedResult.getValue(1, Object.class)).thenReturn(2);
+        CachedMergedResult actual = new CachedMergedResult(Collections.singletonList(new MemoryQueryResultRow(new Object[]{1})), remainingMergedResult);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2));
+        assertFalse(actual.next());
+        actual.close();
+        verify(remainingMergedResult).close();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueryResultCacheTest {
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(
+            PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_RESULT_CACHE_TABLES.getKey(), "foo_db.t_cacheable, foo_db.t_invalidated, foo_db.t_stale")));
+    
+    @Test
+    void assertIsCacheable() {
+        assertTrue(QueryResultCache.getInstance().isCacheable("FOO_DB", mockSelectStatementContext(Collections.singleton("T_CACHEABLE"), "SELECT * FROM t_cacheable"), props));
+    }
+    
+    @Test
+    void assertIsCacheableWithDeterministicFunction() {
+        assertTrue(QueryResultCache.getInstance().isCacheable("foo_db",
+                mockSelectStatementContext(Collections.singleton("t_cacheable"), "SELECT id, UPPER(name) AS now FROM t_cacheable WHERE note = 'rand()'"), props));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithNonDeterministicFunction() {
+        QueryResultCache queryResultCache = QueryResultCache.getInstance();
+        assertFalse(queryResultCache.isCacheable("foo_db", mockSelectStatementContext(Collections.singleton("t_cacheable"), "SELECT id, now() FROM t_cacheable"), props));
+        assertFalse(queryResultCache.isCacheable("foo_db", mockSelectStatementContext(Collections.singleton("t_cacheable"), "SELECT * FROM t_cacheable ORDER BY RAND()"), props));
+        assertFalse(queryResultCache.isCacheable("foo_db", mockSelectStatementContext(Collections.singleton("t_cacheable"), "SELECT * FROM t_cacheable WHERE created_at < CURRENT_TIMESTAMP"), props));
+        assertFalse(queryResultCache.isCacheable("foo_db",
+                mockSelectStatementContext(Collections.singleton("t_cacheable"), "SELECT * FROM t_cacheable WHERE id IN (SELECT id FROM t_cacheable WHERE status = ROUND(RAND()))"), props));
+    }
+    
+    @Test
+    void assertFindWithDifferentSessionVariables() {
+        QueryResultCache queryResultCache = QueryResultCache.getInstance();
+        assertTrue(queryResultCache.isCacheable("foo_db", mockSelectStatementContext(Collections.singleton("t_cacheable"), "SELECT * FROM t_cacheable"), props));
+        QueryResultCacheKey key = new QueryResultCacheKey("foo_db", "foo_schema", "SELECT * FROM t_cacheable", Collections.emptyList(), Collections.singletonMap("search_path", "foo_schema"));
+        queryResultCache.put(key, new CachedQueryResult(Collections.emptyList(), new byte[0], queryResultCache.getTableVersions("foo_db", Collections.singleton("t_cacheable"))));
+        assertTrue(queryResultCache.find(key).isPresent());
+        assertFalse(queryResultCache.find(new QueryResultCacheKey("foo_db", "foo_schema", "SELECT * FROM t_cacheable", Collections.emptyList(),
+                Collections.singletonMap("search_path", "bar_schema"))).isPresent());
+        assertFalse(queryResultCache.find(new QueryResultCacheKey("foo_db", "bar_schema", "SELECT * FROM t_cacheable", Collections.emptyList(),
+                Collections.singletonMap("search_path", "foo_schema"))).isPresent());
+    }
+    
+    @Test
+    void assertIsNotCacheableWithUnconfiguredTable() {
+        assertFalse(QueryResultCache.getInstance().isCacheable("foo_db", mockSelectStatementContext(Arrays.asList("t_cacheable", "t_other"), "SELECT * FROM t_cacheable, t_other"), props));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithTableOfOtherDatabase() {
+        assertFalse(QueryResultCache.getInstance().isCacheable("bar_db", mockSelectStatementContext(Collections.singleton("t_cacheable"), "SELECT * FROM t_cacheable"), props));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithoutConfiguredTables() {
+        assertFalse(QueryResultCache.getInstance().isCacheable("foo_db",
+                mockSelectStatementContext(Collections.singleton("t_cacheable"), "SELECT * FROM t_cacheable"), new ConfigurationProperties(PropertiesBuilder.build())));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithUpdateStatement() {
+        assertFalse(QueryResultCache.getInstance().isCacheable("foo_db", mock(UpdateStatementContext.class, RETURNS_DEEP_STUBS), props));
+    }
+    
+    @Test
+    void assertFindAfterInvalidate() {
+        QueryResultCache queryResultCache = QueryResultCache.getInstance();
+        assertTrue(queryResultCache.isCacheable("foo_db", mockSelectStatementContext(Collections.singleton("t_invalidated"), "SELECT * FROM t_invalidated"), props));
+        QueryResultCacheKey key = new QueryResultCacheKey("foo_db", "foo_schema", "SELECT * FROM t_invalidated", Collections.emptyList(), Collections.emptyMap());
+        queryResultCache.put(key, new CachedQueryResult(Collections.emptyList(), new byte[0], queryResultCache.getTableVersions("foo_db", Collections.singleton("t_invalidated"))));
+        assertTrue(queryResultCache.find(key).isPresent());
+        queryResultCache.invalidate("FOO_DB", Collections.singleton("T_INVALIDATED"), props);
+        assertFalse(queryResultCache.find(key).isPresent());
+    }
+    
+    @Test
+    void assertInvalidateWithWrittenStatementInTransaction() {
+        QueryResultCache queryResultCache = QueryResultCache.getInstance();
+        UpdateStatementContext sqlStatementContext = mock(UpdateStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_invalidated"));
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(true);
+        long version = queryResultCache.getTableVersions("foo_db", Collections.singleton("t_invalidated")).get("foo_db.t_invalidated");
+        queryResultCache.invalidate("foo_db", sqlStatementContext, connectionSession, props);
+        assertThat(queryResultCache.getTableVersions("foo_db", Collections.singleton("t_invalidated")).get("foo_db.t_invalidated"), is(version + 1L));
+        verify(connectionSession.getTransactionWrittenTables()).add("foo_db", Collections.singleton("t_invalidated"));
+    }
+    
+    @Test
+    void assertPutWithStaleTableVersions() {
+        QueryResultCache queryResultCache = QueryResultCache.getInstance();
+        assertTrue(queryResultCache.isCacheable("foo_db", mockSelectStatementContext(Collections.singleton("t_stale"), "SELECT * FROM t_stale"), props));
+        QueryResultCacheKey key = new QueryResultCacheKey("foo_db", "foo_schema", "SELECT * FROM t_stale", Collections.emptyList(), Collections.emptyMap());
+        Map<String, Long> tableVersions = queryResultCache.getTableVersions("foo_db", Collections.singleton("t_stale"));
+        queryResultCache.invalidate("foo_db", Collections.singleton("t_stale"), props);
+        queryResultCache.put(key, new CachedQueryResult(Collections.emptyList(), new byte[0], tableVersions));
+        assertFalse(queryResultCache.find(key).isPresent());
+        assertThat(queryResultCache.getTableVersions("foo_db", Collections.singleton("t_stale")).get("foo_db.t_stale"), is(tableVersions.get("foo_db.t_stale") + 1L));
+    }
+    
+    private SelectStatementContext mockSelectStatementContext(final Collection<String> tableNames, final String sql) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn((SelectStatement) new ShardingSphereSQLParserEngine(
+                TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(0, 0L), new CacheOption(0, 0L)).parse(sql, false));
+        when(result.getTablesContext().getTableNames()).thenReturn(tableNames);
+        return result;
+    }
+}
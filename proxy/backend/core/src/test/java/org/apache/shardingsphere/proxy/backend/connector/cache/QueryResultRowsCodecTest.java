@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryResultRowsCodecTest {
+    
+    @Test
+    void assertEncodeAndDecode() {
+        QueryResultRowsCodec codec = new QueryResultRowsCodec(Long.MAX_VALUE);
+        assertTrue(codec.encode(new MemoryQueryResultRow(new Object[]{1, 2L, "foo", new BigDecimal("1.50"), null, true})));
+        assertTrue(codec.encode(new MemoryQueryResultRow(new Object[]{"bar".getBytes(StandardCharsets.UTF_8), new Timestamp(1000L), LocalDate.of(2024, 1, 1), 1.5D, (short) 3, (byte) 4})));
+        List<MemoryQueryResultRow> actual = QueryResultRowsCodec.decode(codec.getEncodedRows());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getCell(1), is(1));
+        assertThat(actual.get(0).getCell(2), is(2L));
+        assertThat(actual.get(0).getCell(3), is("foo"));
+        assertThat(actual.get(0).getCell(4), is(new BigDecimal("1.50")));
+        assertThat(actual.get(0).getCell(5), nullValue());
+        assertThat(actual.get(0).getCell(6), is(true));
+        assertThat(actual.get(1).getCell(1), is("bar".getBytes(StandardCharsets.UTF_8)));
+        assertThat(actual.get(1).getCell(2), is(new Timestamp(1000L)));
+        assertThat(actual.get(1).getCell(3), is(LocalDate.of(2024, 1, 1)));
+        assertThat(actual.get(1).getCell(4), is(1.5D));
+        assertThat(actual.get(1).getCell(5), is((short) 3));
+        assertThat(actual.get(1).getCell(6), is((byte) 4));
+    }
+    
+    @Test
+    void assertDecodeEmptyRows() {
+        assertTrue(QueryResultRowsCodec.decode(new QueryResultRowsCodec(Long.MAX_VALUE).getEncodedRows()).isEmpty());
+    }
+    
+    @Test
+    void assertEncodeWithUnsupportedValue() {
+        assertFalse(new QueryResultRowsCodec(Long.MAX_VALUE).encode(new MemoryQueryResultRow(new Object[]{new Object()})));
+    }
+    
+    @Test
+    void assertEncodeWithExceededMaxBytes() {
+        QueryResultRowsCodec codec = new QueryResultRowsCodec(32L);
+        assertTrue(codec.encode(new MemoryQueryResultRow(new Object[]{"foo"})));
+        assertFalse(codec.encode(new MemoryQueryResultRow(new Object[]{"foo_bar_value_exceeds_max_bytes"})));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
+
+import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionVariableTrackerTest {
+    
+    @Test
+    void assertIsTrackable() throws SQLException {
+        assertTrue(SessionVariableTracker.isTrackable(mockPooledConnection(mock(Connection.class))));
+    }
+    
+    @Test
+    void assertIsNotTrackableWhenUnwrappedToItself() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.isWrapperFor(Connection.class)).thenReturn(true);
+        when(connection.unwrap(Connection.class)).thenReturn(connection);
+        assertFalse(SessionVariableTracker.isTrackable(connection));
+    }
+    
+    @Test
+    void assertReplayOnlyOnceForSameVariables() throws SQLException {
+        Connection connection = mockPooledConnection(mock(Connection.class));
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("key", "value");
+        SessionVariableTracker.replay(connection, recorder, "PostgreSQL");
+        SessionVariableTracker.replay(connection, recorder, "PostgreSQL");
+        verify(connection.createStatement(), times(1)).execute("SET key=value");
+        verify(connection.createStatement(), never()).execute("RESET ALL");
+    }
+    
+    @Test
+    void assertReplayOnlyOnceForSamePhysicalConnection() throws SQLException {
+        Connection physicalConnection = mock(Connection.class);
+        Connection firstCheckout = mockPooledConnection(physicalConnection);
+        Connection secondCheckout = mockPooledConnection(physicalConnection);
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("key", "value");
+        SessionVariableTracker.replay(firstCheckout, recorder, "PostgreSQL");
+        SessionVariableTracker.replay(secondCheckout, recorder, "PostgreSQL");
+        verify(firstCheckout.createStatement()).execute("SET key=value");
+        verify(secondCheckout.createStatement(), never()).execute(anyString());
+    }
+    
+    @Test
+    void assertReplayForDifferentVariables() throws SQLException {
+        Connection connection = mockPooledConnection(mock(Connection.class));
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("key", "value");
+        SessionVariableTracker.replay(connection, recorder, "PostgreSQL");
+        SessionVariableTracker.replay(connection, new RequiredSessionVariableRecorder(), "PostgreSQL");
+        verify(connection.createStatement()).execute("SET key=value");
+        verify(connection.createStatement()).execute("RESET ALL");
+    }
+    
+    @Test
+    void assertReplayAgainAfterFailure() throws SQLException {
+        Connection connection = mockPooledConnection(mock(Connection.class));
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        recorder.setVariable("key", "value");
+        when(connection.createStatement().execute("SET key=value")).thenThrow(SQLException.class).thenReturn(false);
+        assertThrows(SQLException.class, () -> SessionVariableTracker.replay(connection, recorder, "PostgreSQL"));
+        SessionVariableTracker.replay(connection, recorder, "PostgreSQL");
+        verify(connection.createStatement()).execute("RESET ALL");
+        verify(connection.createStatement(), times(2)).execute("SET key=value");
+    }
+    
+    @Test
+    void assertReplayWithoutVariables() throws SQLException {
+        Connection connection = mockPooledConnection(mock(Connection.class));
+        SessionVariableTracker.replay(connection, new RequiredSessionVariableRecorder(), "MySQL");
+        verify(connection.createStatement(), never()).execute(anyString());
+    }
+    
+    private Connection mockPooledConnection(final Connection physicalConnection) throws SQLException {
+        Connection result = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.isWrapperFor(Connection.class)).thenReturn(true);
+        when(result.unwrap(Connection.class)).thenReturn(physicalConnection);
+        return result;
+    }
+}
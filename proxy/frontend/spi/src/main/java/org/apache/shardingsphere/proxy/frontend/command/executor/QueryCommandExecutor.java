@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.command.executor;
 
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 
 import java.sql.SQLException;
 
@@ -48,4 +49,16 @@ public interface QueryCommandExecutor extends CommandExecutor {
      * @throws SQLException SQL exception
      */
     DatabasePacket getQueryRowPacket() throws SQLException;
+    
+    /**
+     * Write query row into payload directly.
+     * 
+     * <p>Implementations may reuse row objects across rows, so the payload must be written before going to next result value.</p>
+     *
+     * @param payload packet payload
+     * @throws SQLException SQL exception
+     */
+    default void writeQueryRow(final PacketPayload payload) throws SQLException {
+        getQueryRowPacket().write(payload);
+    }
 }
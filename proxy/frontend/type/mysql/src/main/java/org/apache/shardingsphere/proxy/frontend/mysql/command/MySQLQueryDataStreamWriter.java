@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+
+/**
+ * Query data stream writer for MySQL.
+ * 
+ * <p>Query rows are encoded into pooled direct buffers on caller thread and written as packet batches, sequence IDs are assigned by codec.
+ * Batches are written when buffered bytes reach the batch size, and flushed every flush threshold rows. Backpressure is applied by channel writability per batch.
+ * Rows whose payload reaches the max packet payload length are split into continuation packets from the encoded bytes.</p>
+ */
+public final class MySQLQueryDataStreamWriter implements AutoCloseable {
+    
+    private static final int PACKET_HEADER_LENGTH = 4;
+    
+    private static final int BATCH_BYTES = 64 * 1024;
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final Charset charset;
+    
+    private final int flushThreshold;
+    
+    private ByteBuf buffer;
+    
+    private MySQLPacketPayload payload;
+    
+    private int unflushedRowsCount;
+    
+    public MySQLQueryDataStreamWriter(final ChannelHandlerContext context, final ResourceLock resourceLock, final int flushThreshold) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        this.flushThreshold = flushThreshold;
+        charset = context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+    }
+    
+    /**
+     * Write current query row.
+     *
+     * @param queryCommandExecutor query command executor
+     * @throws SQLException SQL exception
+     */
+    public void write(final QueryCommandExecutor queryCommandExecutor) throws SQLException {
+        if (null == buffer) {
+            buffer = context.alloc().directBuffer(BATCH_BYTES);
+            payload = new MySQLPacketPayload(buffer, charset);
+        }
+        int headerIndex = buffer.writerIndex();
+        buffer.writeInt(0);
+        queryCommandExecutor.writeQueryRow(payload);
+        int payloadLength = buffer.writerIndex() - headerIndex - PACKET_HEADER_LENGTH;
+        if (payloadLength >= MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH) {
+            CompositeByteBuf splitPackets = splitPayload(headerIndex + PACKET_HEADER_LENGTH, payloadLength);
+            buffer.writerIndex(headerIndex);
+            writeBatch();
+            resourceLock.doAwait(context);
+            context.write(new MySQLPacketBatch(splitPackets));
+            flush();
+            return;
+        }
+        buffer.setMediumLE(headerIndex, payloadLength);
+        if (++unflushedRowsCount >= flushThreshold) {
+            writeBatch();
+            flush();
+        } else if (buffer.readableBytes() >= BATCH_BYTES) {
+            writeBatch();
+        }
+    }
+    
+    private CompositeByteBuf splitPayload(final int payloadIndex, final int payloadLength) {
+        int packetCount = payloadLength / MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH + 1;
+        CompositeByteBuf result = context.alloc().compositeDirectBuffer(packetCount * 2);
+        for (int i = 0; i < packetCount; i++) {
+            int packetIndex = i * MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH;
+            int packetLength = Math.min(payloadLength - packetIndex, MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH);
+            result.addComponent(true, context.alloc().directBuffer(PACKET_HEADER_LENGTH, PACKET_HEADER_LENGTH).writeMediumLE(packetLength).writeByte(0));
+            if (packetLength > 0) {
+                result.addComponent(true, buffer.retainedSlice(payloadIndex + packetIndex, packetLength));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Write remaining buffered query rows.
+     */
+    public void writeRemaining() {
+        writeBatch();
+    }
+    
+    private void writeBatch() {
+        if (null == buffer) {
+            return;
+        }
+        if (buffer.isReadable()) {
+            resourceLock.doAwait(context);
+            context.write(new MySQLPacketBatch(buffer));
+        } else {
+            buffer.release();
+        }
+        buffer = null;
+        payload = null;
+    }
+    
+    private void flush() {
+        context.flush();
+        unflushedRowsCount = 0;
+    }
+    
+    @Override
+    public void close() {
+        if (null != buffer) {
+            buffer.release();
+            buffer = null;
+            payload = null;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLQueryDataStreamWriterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+    }
+    
+    @Test
+    void assertWriteRowsAsPacketBatch() throws SQLException {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        doAnswer(invocation -> writeRow(invocation.getArgument(0), "foo")).doAnswer(invocation -> writeRow(invocation.getArgument(0), "ab")).when(queryCommandExecutor).writeQueryRow(any());
+        try (MySQLQueryDataStreamWriter writer = new MySQLQueryDataStreamWriter(context, resourceLock, 128)) {
+            writer.write(queryCommandExecutor);
+            writer.write(queryCommandExecutor);
+            writer.writeRemaining();
+        }
+        ArgumentCaptor<MySQLPacketBatch> packetBatchCaptor = ArgumentCaptor.forClass(MySQLPacketBatch.class);
+        verify(context, atLeastOnce()).write(packetBatchCaptor.capture());
+        verify(resourceLock, atLeastOnce()).doAwait(context);
+        ByteBuf actual = Unpooled.buffer();
+        for (MySQLPacketBatch each : packetBatchCaptor.getAllValues()) {
+            actual.writeBytes(each.getByteBuf());
+            each.release();
+        }
+        assertThat(actual.readableBytes(), is(15));
+        assertThat(actual.getUnsignedMediumLE(0), is(4));
+        assertThat(actual.getUnsignedMediumLE(8), is(3));
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    void assertWriteRowsWithFlushThreshold() throws SQLException {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        doAnswer(invocation -> writeRow(invocation.getArgument(0), "foo")).when(queryCommandExecutor).writeQueryRow(any());
+        try (MySQLQueryDataStreamWriter writer = new MySQLQueryDataStreamWriter(context, resourceLock, 2)) {
+            for (int i = 0; i < 5; i++) {
+                writer.write(queryCommandExecutor);
+            }
+            writer.writeRemaining();
+        }
+        ArgumentCaptor<MySQLPacketBatch> packetBatchCaptor = ArgumentCaptor.forClass(MySQLPacketBatch.class);
+        verify(context, times(3)).write(packetBatchCaptor.capture());
+        verify(context, times(2)).flush();
+        packetBatchCaptor.getAllValues().forEach(MySQLPacketBatch::release);
+    }
+    
+    @Test
+    void assertWriteLargeRowAsSplitPackets() throws SQLException {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        doAnswer(invocation -> writeRow(invocation.getArgument(0), "foo")).doAnswer(invocation -> writeLargeRow(invocation.getArgument(0), MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH + 10))
+                .when(queryCommandExecutor).writeQueryRow(any());
+        try (MySQLQueryDataStreamWriter writer = new MySQLQueryDataStreamWriter(context, resourceLock, 128)) {
+            writer.write(queryCommandExecutor);
+            writer.write(queryCommandExecutor);
+            writer.writeRemaining();
+        }
+        ArgumentCaptor<MySQLPacketBatch> packetBatchCaptor = ArgumentCaptor.forClass(MySQLPacketBatch.class);
+        verify(context, times(2)).write(packetBatchCaptor.capture());
+        verify(context).flush();
+        verify(queryCommandExecutor, never()).getQueryRowPacket();
+        ByteBuf actualRow = packetBatchCaptor.getAllValues().get(0).getByteBuf();
+        assertThat(actualRow.readableBytes(), is(8));
+        assertThat(actualRow.getUnsignedMediumLE(0), is(4));
+        ByteBuf actualSplitPackets = packetBatchCaptor.getAllValues().get(1).getByteBuf();
+        assertThat(actualSplitPackets.readableBytes(), is(MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH + 18));
+        assertThat(actualSplitPackets.getUnsignedMediumLE(0), is(MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH));
+        assertThat(actualSplitPackets.getUnsignedMediumLE(MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH + 4), is(10));
+        assertThat(actualSplitPackets.getByte(MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH + 17), is((byte) 1));
+        packetBatchCaptor.getAllValues().forEach(MySQLPacketBatch::release);
+    }
+    
+    @Test
+    void assertWriteMaxLengthRowWithEmptyContinuationPacket() throws SQLException {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        doAnswer(invocation -> writeLargeRow(invocation.getArgument(0), MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH)).when(queryCommandExecutor).writeQueryRow(any());
+        try (MySQLQueryDataStreamWriter writer = new MySQLQueryDataStreamWriter(context, resourceLock, 128)) {
+            writer.write(queryCommandExecutor);
+        }
+        ArgumentCaptor<MySQLPacketBatch> packetBatchCaptor = ArgumentCaptor.forClass(MySQLPacketBatch.class);
+        verify(context).write(packetBatchCaptor.capture());
+        ByteBuf actual = packetBatchCaptor.getValue().getByteBuf();
+        assertThat(actual.readableBytes(), is(MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH + 8));
+        assertThat(actual.getUnsignedMediumLE(MySQLConstants.MAX_PACKET_PAYLOAD_LENGTH + 4), is(0));
+        packetBatchCaptor.getValue().release();
+    }
+    
+    private Object writeLargeRow(final PacketPayload payload, final int length) {
+        payload.getByteBuf().writeZero(length - 1).writeByte(1);
+        return null;
+    }
+    
+    private Object writeRow(final PacketPayload payload, final String value) {
+        new MySQLTextResultSetRowPacket(Collections.singletonList(value)).write(payload);
+        return null;
+    }
+    
+    @Test
+    void assertCloseWithoutWrite() {
+        try (MySQLQueryDataStreamWriter writer = new MySQLQueryDataStreamWriter(context, resourceLock, 128)) {
+            writer.writeRemaining();
+        }
+        verify(context, never()).write(any());
+        verify(context, never()).flush();
+    }
+}
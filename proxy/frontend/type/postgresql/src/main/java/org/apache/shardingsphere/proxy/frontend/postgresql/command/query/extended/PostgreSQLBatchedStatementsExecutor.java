@@ -45,6 +45,7 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.connector.cache.QueryResultCache;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -142,8 +143,12 @@ public final class PostgreSQLBatchedStatementsExecutor {
      */
     public int executeBatch() throws SQLException {
         connectionSession.getDatabaseConnectionManager().handleAutoCommit();
-        addBatchedParametersToPreparedStatements();
-        return executeBatchedPreparedStatements();
+        try {
+            addBatchedParametersToPreparedStatements();
+            return executeBatchedPreparedStatements();
+        } finally {
+            QueryResultCache.getInstance().invalidate(connectionSession.getDatabaseName(), preparedStatement.getSqlStatementContext(), connectionSession, metaDataContexts.getMetaData().getProps());
+        }
     }
     
     private void addBatchedParametersToPreparedStatements() throws SQLException {
@@ -181,8 +186,8 @@ public final class PostgreSQLBatchedStatementsExecutor {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
         DatabaseType protocolType = database.getProtocolType();
-        JDBCExecutorCallback<int[]> callback =
-                new BatchedStatementsJDBCExecutorCallback(protocolType, database.getResourceMetaData(), preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown);
+        JDBCExecutorCallback<int[]> callback = new BatchedStatementsJDBCExecutorCallback(
+                protocolType, database.getName(), database.getResourceMetaData(), preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown);
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
         int result = 0;
         for (int[] eachResult : executeResults) {
@@ -195,9 +200,9 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private static final class BatchedStatementsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
-        private BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
+        private BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final String databaseName, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
                                                       final boolean isExceptionThrown) {
-            super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+            super(protocolType, databaseName, resourceMetaData, sqlStatement, isExceptionThrown);
         }
         
         @Override